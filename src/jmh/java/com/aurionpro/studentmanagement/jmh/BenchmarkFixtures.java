@@ -0,0 +1,77 @@
+package com.aurionpro.studentmanagement.jmh;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+
+/**
+ * Builds detached entity graphs shaped like production data, so that the benchmarks do not need a database.
+ */
+final class BenchmarkFixtures {
+
+    static final int COURSES_PER_DEPARTMENT = 40;
+    static final int COURSES_PER_STUDENT = 3;
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a department with {@value #COURSES_PER_DEPARTMENT} courses.
+     */
+    static Department department(long id) {
+        Department department = new Department();
+        department.setId(id);
+        department.setName("Department " + id);
+        List<Course> courses = new ArrayList<>(COURSES_PER_DEPARTMENT);
+        for (int i = 0; i < COURSES_PER_DEPARTMENT; i++) {
+            Course course = new Course();
+            course.setId(id * 1_000 + i);
+            course.setName("Course " + i + " of department " + id);
+            course.setDescription("An introduction to topic " + i + ", with weekly assignments and a final exam.");
+            course.setDepartment(department);
+            courses.add(course);
+        }
+        department.setCourses(courses);
+        return department;
+    }
+
+    /**
+     * Creates a student of the given department, enrolled in {@value #COURSES_PER_STUDENT} of its courses.
+     */
+    static Student student(int index, Department department) {
+        Student student = new Student();
+        student.setId((long) index + 1);
+        student.setStudentId("S" + (100_000 + index));
+        student.setFirstName("First" + index);
+        student.setLastName("Last" + index);
+        student.setEmail("student" + index + "@example.com");
+        student.setDepartment(department);
+        List<Course> courses = department.getCourses();
+        for (int i = 0; i < COURSES_PER_STUDENT; i++) {
+            student.getCourses().add(courses.get((index + i) % courses.size()));
+        }
+        student.setActive(index % 10 != 0);
+        student.setCreatedAt(CREATED_AT);
+        student.setUpdatedAt(CREATED_AT);
+        return student;
+    }
+
+    /**
+     * Creates the given number of students, spread over ten departments.
+     */
+    static List<Student> students(int count) {
+        List<Department> departments = IntStream.rangeClosed(1, 10).mapToObj(BenchmarkFixtures::department).toList();
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(student(i, departments.get(i % departments.size())));
+        }
+        return students;
+    }
+}
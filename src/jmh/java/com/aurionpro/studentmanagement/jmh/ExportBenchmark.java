@@ -0,0 +1,96 @@
+package com.aurionpro.studentmanagement.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.export.ReportTemplateCache;
+import com.aurionpro.studentmanagement.service.StudentExportService;
+import com.aurionpro.studentmanagement.service.impl.StudentExportServiceImpl;
+
+import net.sf.jasperreports.engine.JRException;
+
+/**
+ * Measures the Excel, CSV and PDF exports of {@link StudentExportServiceImpl}, written to an
+ * in-memory stream so that only the time spent formatting the file is measured. The report
+ * template is compiled once in the setup, as it is at application startup. PDF reports are
+ * measured both filled in memory and with their pages swapped out to disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportBenchmark {
+
+    private static final int VIRTUALIZER_MAX_PAGES = 100;
+
+    @Param({ "1000", "100000" })
+    private int rows;
+
+    private List<Student> students;
+    private StudentExportService exportService;
+    private StudentExportService virtualizingExportService;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setUp() throws JRException {
+        students = BenchmarkFixtures.students(rows);
+        ReportTemplateCache reportTemplateCache = new ReportTemplateCache();
+        reportTemplateCache.getReport(ReportTemplateCache.STUDENT_LIST_TEMPLATE);
+        String swapDirectory = System.getProperty("java.io.tmpdir") + "/student-management/pdf-swap";
+        exportService = new StudentExportServiceImpl(reportTemplateCache, Long.MAX_VALUE, VIRTUALIZER_MAX_PAGES, swapDirectory);
+        virtualizingExportService = new StudentExportServiceImpl(reportTemplateCache, 0, VIRTUALIZER_MAX_PAGES, swapDirectory);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetOutput() {
+        outputStream = new ByteArrayOutputStream(1 << 20);
+    }
+
+    @Benchmark
+    public int excel() throws IOException {
+        exportService.exportToExcel(students.stream(), outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int csv() throws IOException {
+        exportService.exportToCsv(students.stream(), outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int csvGzip() throws IOException {
+        exportService.exportToCsv(students.stream(), outputStream, true);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int pdf() throws IOException, JRException {
+        exportService.exportToPdf(students.stream(), rows, outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int pdfVirtualized() throws IOException, JRException {
+        virtualizingExportService.exportToPdf(students.stream(), rows, outputStream);
+        return outputStream.size();
+    }
+}
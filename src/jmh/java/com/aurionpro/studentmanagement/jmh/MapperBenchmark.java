@@ -0,0 +1,71 @@
+package com.aurionpro.studentmanagement.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.aurionpro.studentmanagement.dto.response.DepartmentDetailDto;
+import com.aurionpro.studentmanagement.dto.response.StudentResponseDto;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.mapper.CourseMapperImpl;
+import com.aurionpro.studentmanagement.mapper.DepartmentMapper;
+import com.aurionpro.studentmanagement.mapper.DepartmentMapperImpl;
+import com.aurionpro.studentmanagement.mapper.StudentMapper;
+import com.aurionpro.studentmanagement.mapper.StudentMapperImpl;
+
+/**
+ * Measures the MapStruct conversions done for every student and department returned by the API.
+ * The mappers are wired by a minimal Spring context, exactly as the generated implementations expect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private StudentMapper studentMapper;
+    private DepartmentMapper departmentMapper;
+
+    private Student student;
+    private Department department;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(StudentMapperImpl.class, DepartmentMapperImpl.class, CourseMapperImpl.class);
+        studentMapper = context.getBean(StudentMapper.class);
+        departmentMapper = context.getBean(DepartmentMapper.class);
+        department = BenchmarkFixtures.department(1);
+        student = BenchmarkFixtures.student(1, department);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StudentResponseDto studentToDto() {
+        return studentMapper.toDto(student);
+    }
+
+    /** Maps a department with {@value BenchmarkFixtures#COURSES_PER_DEPARTMENT} courses. */
+    @Benchmark
+    public DepartmentDetailDto departmentToDetailDto() {
+        return departmentMapper.toDetailDto(department);
+    }
+}
@@ -0,0 +1,92 @@
+package com.aurionpro.studentmanagement.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.query.SelectionQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.repository.StudentSpecifications;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Measures building the student search query from {@link StudentSpecifications#matching(String, Boolean)},
+ * which is done for every page of the student listing and for every export. Hibernate is bootstrapped
+ * against an in-memory H2 database, but no query is executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    /** An empty filter, a plain term, and a term with a LIKE wildcard that must be escaped. */
+    @Param({ "", "nilesh", "nilesh_gawli" })
+    private String filter;
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Student.class)
+                .addAnnotatedClass(Department.class)
+                .addAnnotatedClass(Course.class)
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:jmh;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+                .setProperty(AvailableSettings.USER, "sa")
+                .setProperty(AvailableSettings.PASS, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        criteriaBuilder = session.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    /** Builds the criteria query, including the specification's predicates. */
+    @Benchmark
+    public CriteriaQuery<Student> buildCriteria() {
+        return criteriaQuery(StudentSpecifications.matching(filter, Boolean.TRUE));
+    }
+
+    /** Builds the criteria query and has Hibernate turn it into an executable query. */
+    @Benchmark
+    public SelectionQuery<Student> createQuery() {
+        return session.createSelectionQuery(criteriaQuery(StudentSpecifications.matching(filter, Boolean.TRUE)));
+    }
+
+    private CriteriaQuery<Student> criteriaQuery(Specification<Student> spec) {
+        CriteriaQuery<Student> query = criteriaBuilder.createQuery(Student.class);
+        Root<Student> root = query.from(Student.class);
+        return query.select(root).where(spec.toPredicate(root, query, criteriaBuilder));
+    }
+}
@@ -3,6 +3,7 @@ package com.aurionpro.studentmanagement;
 import org.springframework.boot.SpringApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The main entry point for the Student Management System application.
@@ -14,9 +15,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * <p>The {@link EnableJpaAuditing} annotation activates Spring Data JPA's
  * auditing feature, which automatically populates the {@code createdAt} and
  * {@code updatedAt} fields in entities like {@code Student}.
+ *
+ * <p>The {@link EnableScheduling} annotation activates scheduled tasks, such as
+ * the periodic removal of expired export jobs.
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class StudentManagementApplication {
 
 	/**
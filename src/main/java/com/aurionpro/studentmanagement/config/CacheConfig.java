@@ -0,0 +1,58 @@
+package com.aurionpro.studentmanagement.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuration class for the in-memory caches of reference data.
+ * The caches themselves are Caffeine caches configured from the {@code spring.cache.*}
+ * properties, which define their names, size and TTL eviction and enable the hit/miss
+ * statistics published through the actuator metrics endpoint.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Caches the list of active departments returned for UI dropdowns.
+     */
+    public static final String ACTIVE_DEPARTMENTS_CACHE = "activeDepartments";
+
+    /**
+     * Caches the lists of active courses, keyed by department ID, or {@code all} when not filtered.
+     */
+    public static final String ACTIVE_COURSES_CACHE = "activeCourses";
+
+    /**
+     * Creates the Caffeine cache manager and makes it transaction-aware, so that evictions
+     * triggered by a transactional write take effect only once the transaction has committed.
+     * Otherwise a concurrent read could repopulate the cache with data that is about to become stale.
+     * Declaring the cache manager replaces the one Spring Boot would auto-configure, so the
+     * {@code spring.cache.*} properties are applied here.
+     *
+     * @param cacheProperties The {@code spring.cache.*} properties.
+     * @return The {@link CaffeineCacheManager}, wrapped in a {@link TransactionAwareCacheManagerProxy}.
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        String specification = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(specification)) {
+            caffeineCacheManager.setCacheSpecification(specification);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,65 @@
+package com.aurionpro.studentmanagement.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.aurionpro.studentmanagement.monitoring.RequestStatementCounter;
+import com.aurionpro.studentmanagement.monitoring.StatementMetricsInterceptor;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration of the application metrics published through the actuator {@code prometheus} endpoint,
+ * in addition to the HTTP, JVM, connection pool and cache metrics Spring Boot provides.
+ * <ul>
+ *   <li>{@code app.service}: the duration of each service method, for services annotated with {@code @Timed}.</li>
+ *   <li>{@code app.http.statements}: the SQL statements issued per request, by controller method, which are
+ *   checked against the {@link com.aurionpro.studentmanagement.monitoring.StatementBudget} of the method.</li>
+ *   <li>{@code app.export.*}: the rows, bytes and duration of exports, by format.</li>
+ * </ul>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MonitoringConfig implements WebMvcConfigurer {
+
+    /**
+     * The name of the timer recording the service methods of classes annotated with {@code @Timed}.
+     * Each method is recorded separately, tagged with its class and method name.
+     */
+    public static final String SERVICE_TIMER = "app.service";
+
+    private final StatementMetricsInterceptor statementMetricsInterceptor;
+
+    /**
+     * Enables the {@code @Timed} annotation on Spring beans.
+     *
+     * @param meterRegistry The registry the timers are registered in.
+     * @return The aspect recording the annotated methods.
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Registers the statement counter with Hibernate, so that it sees every SQL statement.
+     *
+     * @param statementCounter The counter to register.
+     * @return A customizer adding the counter to the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(RequestStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementMetricsInterceptor);
+    }
+}
@@ -0,0 +1,89 @@
+package com.aurionpro.studentmanagement.config;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies PostgreSQL-specific schema changes that Hibernate's schema update cannot express,
+ * from the idempotent scripts in {@code classpath:db/postgres/}:
+ * <ul>
+ *   <li>{@code required/}: changes the application depends on, such as moving the ID sequences past
+ *       existing rows. If one of them fails, startup fails, as inserts would otherwise hit duplicate keys.</li>
+ *   <li>{@code optional/}: optimizations, such as trigram indexes. A failure is logged and the
+ *       application starts without them.</li>
+ * </ul>
+ * The scripts run once all singletons, including the entity manager factory, have been created,
+ * so the tables already exist, and before the web server starts accepting requests.
+ * They are skipped when the application runs against any other database.
+ */
+@Component
+@ConditionalOnProperty(name = "app.db.postgres-scripts.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final String REQUIRED_SCRIPT_LOCATION = "classpath:db/postgres/required/*.sql";
+    private static final String OPTIONAL_SCRIPT_LOCATION = "classpath:db/postgres/optional/*.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isPostgres()) {
+            log.info("Skipping PostgreSQL schema scripts, the database is not PostgreSQL.");
+            return;
+        }
+        for (Resource script : findScripts(REQUIRED_SCRIPT_LOCATION)) {
+            try {
+                new ResourceDatabasePopulator(script).execute(dataSource);
+            } catch (ScriptException e) {
+                throw new IllegalStateException("Failed to apply required PostgreSQL schema script " + script.getFilename(), e);
+            }
+            log.info("Applied PostgreSQL schema script {}", script.getFilename());
+        }
+        for (Resource script : findScripts(OPTIONAL_SCRIPT_LOCATION)) {
+            try {
+                new ResourceDatabasePopulator(script).execute(dataSource);
+                log.info("Applied PostgreSQL schema script {}", script.getFilename());
+            } catch (ScriptException e) {
+                // Keep the application available, these scripts only add optimizations
+                log.warn("Failed to apply optional PostgreSQL schema script {}: {}", script.getFilename(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            // The required scripts cannot be skipped on a database that might be PostgreSQL
+            throw new IllegalStateException("Unable to determine the database product for the PostgreSQL schema scripts.", e);
+        }
+    }
+
+    private Resource[] findScripts(String location) {
+        try {
+            Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(location);
+            Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+            return scripts;
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to list the PostgreSQL schema scripts in " + location, e);
+        }
+    }
+}
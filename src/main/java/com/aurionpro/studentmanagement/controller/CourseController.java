@@ -2,10 +2,15 @@ package com.aurionpro.studentmanagement.controller;
 
 import com.aurionpro.studentmanagement.dto.ApiResponse;
 import com.aurionpro.studentmanagement.dto.response.CourseDto;
+import com.aurionpro.studentmanagement.monitoring.StatementBudget;
 import com.aurionpro.studentmanagement.service.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +31,7 @@ public class CourseController {
 
     @Operation(summary = "Get all courses", description = "Returns a list of all courses, optionally filtered by department.")
     @GetMapping
+    @StatementBudget(2)
     public ResponseEntity<ApiResponse<List<CourseDto>>> getAllCourses(
             @RequestParam(required = false) Long departmentId
     ) {
@@ -33,4 +39,20 @@ public class CourseController {
         ApiResponse<List<CourseDto>> response = new ApiResponse<>("success", "Courses fetched successfully", courses);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Get a paginated list of active courses", description = "Returns a page of active courses, optionally filtered by department.")
+    @GetMapping("/paged")
+    @StatementBudget(3)
+    public ResponseEntity<ApiResponse<Page<CourseDto>>> getCoursesPage(
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction sortDir
+    ) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDir, sortBy));
+        Page<CourseDto> coursesPage = courseService.getCoursesPage(departmentId, pageable);
+        ApiResponse<Page<CourseDto>> response = new ApiResponse<>("success", "Courses fetched successfully", coursesPage);
+        return ResponseEntity.ok(response);
+    }
+}
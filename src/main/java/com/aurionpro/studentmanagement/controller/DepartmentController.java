@@ -5,6 +5,7 @@ import com.aurionpro.studentmanagement.dto.request.CreateDepartmentRequestDto;
 import com.aurionpro.studentmanagement.dto.request.UpdateDepartmentRequestDto;
 import com.aurionpro.studentmanagement.dto.response.DepartmentDetailDto;
 import com.aurionpro.studentmanagement.dto.response.DepartmentDto;
+import com.aurionpro.studentmanagement.monitoring.StatementBudget;
 import com.aurionpro.studentmanagement.service.DepartmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -54,6 +55,7 @@ public class DepartmentController {
      */
     @Operation(summary = "Get a paginated list of departments", description = "Returns a list of departments with filtering, pagination, and sorting.")
     @GetMapping
+    @StatementBudget(3)
     public ResponseEntity<ApiResponse<Page<DepartmentDto>>> getAllDepartments(
             @RequestParam(required = false) String filter,
             @RequestParam(required = false) Boolean isActive,
@@ -76,6 +78,7 @@ public class DepartmentController {
      */
     @Operation(summary = "Get all active departments", description = "Returns a list of all active departments, suitable for UI dropdowns.")
     @GetMapping("/active")
+    @StatementBudget(2)
     public ResponseEntity<ApiResponse<List<DepartmentDto>>> getAllActiveDepartments() {
         List<DepartmentDto> departments = departmentService.getAllActiveDepartments();
         ApiResponse<List<DepartmentDto>> response = new ApiResponse<>("success", "Active departments fetched successfully", departments);
@@ -90,6 +93,7 @@ public class DepartmentController {
      */
     @Operation(summary = "Get a single department by ID with its courses", description = "Returns department details including its full list of courses.")
     @GetMapping("/{departmentId}")
+    @StatementBudget(3)
     public ResponseEntity<ApiResponse<DepartmentDetailDto>> getDepartmentById(@PathVariable Long departmentId) {
         DepartmentDetailDto department = departmentService.getDepartmentById(departmentId);
         ApiResponse<DepartmentDetailDto> response = new ApiResponse<>("success", "Department details fetched successfully", department);
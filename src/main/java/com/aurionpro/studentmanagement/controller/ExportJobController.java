@@ -0,0 +1,88 @@
+package com.aurionpro.studentmanagement.controller;
+
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aurionpro.studentmanagement.dto.ApiResponse;
+import com.aurionpro.studentmanagement.dto.request.CreateExportJobRequestDto;
+import com.aurionpro.studentmanagement.dto.response.ExportJobDto;
+import com.aurionpro.studentmanagement.export.ExportJobResult;
+import com.aurionpro.studentmanagement.service.ExportJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST controller for asynchronous student exports.
+ * Large exports are submitted as jobs that run in the background; clients poll the job
+ * status and download the generated file once it is complete.
+ */
+@RestController
+@RequestMapping("/api/v1/students/export-jobs")
+@CrossOrigin(origins = "http://localhost:4200")
+@Tag(name = "Export Job Controller", description = "APIs for Asynchronous Student Exports")
+@RequiredArgsConstructor
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    /**
+     * Submits a new export job.
+     *
+     * @param requestDto The DTO containing the export format and filter criteria.
+     * @return A {@link ResponseEntity} with the queued job and a 202 ACCEPTED status.
+     */
+    @Operation(summary = "Submit an export job", description = "Queues the generation of an XLSX, CSV or PDF file of students matching the provided filters.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<ExportJobDto>> submitJob(@Valid @RequestBody CreateExportJobRequestDto requestDto) {
+        ExportJobDto job = exportJobService.submitJob(requestDto);
+        ApiResponse<ExportJobDto> response = new ApiResponse<>("success", "Export job submitted successfully", job);
+        return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Retrieves the status and progress of an export job.
+     *
+     * @param jobId The ID of the job.
+     * @return A {@link ResponseEntity} containing the job status.
+     */
+    @Operation(summary = "Get export job status", description = "Returns the status and progress of an export job.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExportJobDto>> getJob(@PathVariable String jobId) {
+        ExportJobDto job = exportJobService.getJob(jobId);
+        ApiResponse<ExportJobDto> response = new ApiResponse<>("success", "Export job fetched successfully", job);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Downloads the file generated by a completed export job.
+     * The file is kept until the download ends, even if the job expires meanwhile.
+     *
+     * @param jobId The ID of the job.
+     * @return A {@link ResponseEntity} streaming the generated file.
+     */
+    @Operation(summary = "Download export job result", description = "Downloads the file generated by a completed export job.")
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> downloadJobResult(@PathVariable String jobId) {
+        ExportJobResult result = exportJobService.getJobResult(jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(result.format().getContentType()))
+                .contentLength(result.size())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + result.fileName())
+                // The converter closes the stream once the file is sent or the download fails
+                .body(new InputStreamResource(result.content()));
+    }
+}
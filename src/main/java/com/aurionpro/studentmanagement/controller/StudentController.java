@@ -1,15 +1,23 @@
 package com.aurionpro.studentmanagement.controller;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,19 +27,40 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.aurionpro.studentmanagement.dto.ApiResponse;
+import com.aurionpro.studentmanagement.dto.request.BulkStudentStatusRequestDto;
 import com.aurionpro.studentmanagement.dto.request.CreateStudentRequestDto;
 import com.aurionpro.studentmanagement.dto.request.UpdateStudentRequestDto;
+import com.aurionpro.studentmanagement.dto.response.BulkImportResultDto;
+import com.aurionpro.studentmanagement.dto.response.BulkStatusUpdateResultDto;
+import com.aurionpro.studentmanagement.dto.response.CursorPageDto;
 import com.aurionpro.studentmanagement.dto.response.StudentResponseDto;
+import com.aurionpro.studentmanagement.export.AcceptEncoding;
+import com.aurionpro.studentmanagement.export.ExportCache;
+import com.aurionpro.studentmanagement.export.ExportCacheKey;
+import com.aurionpro.studentmanagement.export.ExportCancellation;
+import com.aurionpro.studentmanagement.export.ExportConcurrencyLimiter;
+import com.aurionpro.studentmanagement.export.ExportFormat;
+import com.aurionpro.studentmanagement.monitoring.StatementBudget;
+import com.aurionpro.studentmanagement.service.StudentBundleExportService;
+import com.aurionpro.studentmanagement.service.StudentImportService;
 import com.aurionpro.studentmanagement.service.StudentService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import net.sf.jasperreports.engine.JRException;
 
@@ -45,10 +74,30 @@ import net.sf.jasperreports.engine.JRException;
 @Tag(name = "Student Controller", description = "APIs for Student Management")
 public class StudentController {
 
+    /**
+     * Writes an export to the response body.
+     */
+    @FunctionalInterface
+    private interface StreamingExport {
+        void writeTo(OutputStream outputStream, ExportCancellation cancellation) throws IOException, JRException;
+    }
+
     private final StudentService studentService;
+    private final StudentImportService studentImportService;
+    private final StudentBundleExportService studentBundleExportService;
+    private final ExportConcurrencyLimiter exportConcurrencyLimiter;
+    private final ExportCache exportCache;
+    private final boolean csvCompressionEnabled;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, StudentImportService studentImportService,
+            StudentBundleExportService studentBundleExportService, ExportConcurrencyLimiter exportConcurrencyLimiter,
+            ExportCache exportCache, @Value("${app.export.csv-compression-enabled:true}") boolean csvCompressionEnabled) {
         this.studentService = studentService;
+        this.studentImportService = studentImportService;
+        this.studentBundleExportService = studentBundleExportService;
+        this.exportConcurrencyLimiter = exportConcurrencyLimiter;
+        this.exportCache = exportCache;
+        this.csvCompressionEnabled = csvCompressionEnabled;
     }
 
     /**
@@ -64,6 +113,7 @@ public class StudentController {
      */
     @Operation(summary = "Get a paginated list of students", description = "Returns a list of students with filtering, pagination, and sorting.")
     @GetMapping
+    @StatementBudget(6)
     public ResponseEntity<ApiResponse<Page<StudentResponseDto>>> getAllStudents(
             @RequestParam(required = false) String filter,
             @RequestParam(required = false) Boolean isActive,
@@ -78,6 +128,36 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Retrieves a slice of students using keyset (cursor-based) pagination.
+     * Unlike {@link #getAllStudents}, no total count is computed and the cost of a request stays
+     * constant however deep the client scrolls. The first slice is requested without a cursor;
+     * each following slice passes the {@code nextCursor} of the previous response.
+     *
+     * @param filter   Optional search term to filter students by ID, name, or email.
+     * @param isActive Optional status to filter students by (true for active, false for inactive).
+     * @param cursor   The continuation token returned with the previous slice, if any.
+     * @param size     The number of students per slice.
+     * @param sortBy   The field to sort the results by.
+     * @param sortDir  The direction of the sort (ASC or DESC).
+     * @return A {@link ResponseEntity} containing a slice of students and the cursor of the next slice.
+     */
+    @Operation(summary = "Scroll through students", description = "Returns a slice of students using cursor-based pagination, without a total count.")
+    @GetMapping("/scroll")
+    @StatementBudget(4)
+    public ResponseEntity<ApiResponse<CursorPageDto<StudentResponseDto>>> getStudentsByCursor(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "ASC") Sort.Direction sortDir
+    ) {
+        CursorPageDto<StudentResponseDto> studentsSlice = studentService.getStudentsByCursor(filter, isActive, cursor, size, sortBy, sortDir);
+        ApiResponse<CursorPageDto<StudentResponseDto>> response = new ApiResponse<>("success", "Students fetched successfully", studentsSlice);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Creates a new student record.
      *
@@ -92,6 +172,38 @@ public class StudentController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates student records for a whole batch submitted as a JSON array.
+     * Rows are validated individually, so invalid rows are reported without rejecting the batch.
+     *
+     * @param requestDtos The students to create.
+     * @return A {@link ResponseEntity} summarizing the import, including the errors of each rejected row.
+     */
+    @Operation(summary = "Import students in bulk", description = "Creates students from a JSON array, reporting the validation errors of each rejected row.")
+    @PostMapping("/bulk")
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importStudents(@RequestBody List<CreateStudentRequestDto> requestDtos) {
+        BulkImportResultDto result = studentService.importStudents(requestDtos);
+        return ResponseEntity.ok(importResponse(result));
+    }
+
+    /**
+     * Creates student records from an uploaded CSV or Excel (XLSX) file whose first row names the columns
+     * studentId, firstName, lastName, email, departmentId and, optionally, courseIds.
+     *
+     * @param file The uploaded file.
+     * @return A {@link ResponseEntity} summarizing the import, including the errors of each rejected row.
+     * @throws IOException if the uploaded file cannot be read.
+     */
+    @Operation(summary = "Import students from a file", description = "Creates students from an uploaded CSV or XLSX file, reporting the validation errors of each rejected row.")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importStudentsFromFile(@RequestPart("file") MultipartFile file) throws IOException {
+        List<CreateStudentRequestDto> requestDtos = studentImportService.readStudents(file.getOriginalFilename(), file.getInputStream());
+        BulkImportResultDto result = studentService.importStudents(requestDtos);
+        return ResponseEntity.ok(importResponse(result));
+    }
+
     /**
      * Updates an existing student's details.
      *
@@ -137,73 +249,233 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Sets the active status of many students at once, selected either by their business IDs or by a filter.
+     *
+     * @param requestDto The status to apply and the selection of students.
+     * @return A {@link ResponseEntity} with the number of matched and changed students and any unknown IDs.
+     */
+    @Operation(summary = "Change the status of many students", description = "Activates or deactivates the students selected by business ID or by filter, in one request.")
+    @PatchMapping("/status")
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResultDto>> updateStudentsStatus(@Valid @RequestBody BulkStudentStatusRequestDto requestDto) {
+        BulkStatusUpdateResultDto result = studentService.updateStudentsStatus(requestDto);
+        ApiResponse<BulkStatusUpdateResultDto> response = new ApiResponse<>("success",
+                "Status updated for " + result.getUpdatedCount() + " students", result);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Exports a list of students to an Excel (XLSX) file based on optional filters.
-     * This method writes the file directly to the {@link HttpServletResponse}.
+     * The file is streamed to the client by a {@link StreamingResponseBody}, off the request thread,
+     * and served from the {@link ExportCache} while the data is unchanged.
      *
      * @param filter   Optional search term to filter the exported students.
      * @param isActive Optional status to filter the exported students.
-     * @param response The HttpServletResponse to which the Excel file will be written.
-     * @throws IOException if an I/O error occurs during file writing.
+     * @param request  The current request, whose asynchronous processing the export is tied to.
+     * @return A {@link ResponseEntity} streaming the Excel file, or a 304 response if the client's copy is current.
+     * @throws IOException if the cached file cannot be opened.
      */
     @Operation(summary = "Download students as an Excel file", description = "Generates and downloads an XLSX file containing students based on the provided filters.")
     @GetMapping("/download/xlsx")
-    public void downloadStudentsAsExcel(
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<StreamingResponseBody> downloadStudentsAsExcel(
             @RequestParam(required = false) String filter,
             @RequestParam(required = false) Boolean isActive,
-            HttpServletResponse response
+            HttpServletRequest request
     ) throws IOException {
-        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-        DateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
-        String currentDateTime = dateFormatter.format(new Date());
-        String headerKey = "Content-Disposition";
-        String headerValue = "attachment; filename=students_" + currentDateTime + ".xlsx";
-        response.setHeader(headerKey, headerValue);
-
-        studentService.generateStudentsExcel(filter, isActive, response);
+        ExportCacheKey key = new ExportCacheKey(ExportFormat.XLSX, false, filter, isActive, studentService.getExportDataVersion());
+        return cachedDownload(request, key, "students", new HttpHeaders(),
+                (outputStream, cancellation) -> studentService.generateStudentsExcel(filter, isActive, outputStream, cancellation));
     }
 
     /**
      * Exports a list of students to a CSV file based on optional filters.
-     * This method writes the file directly to the {@link HttpServletResponse}.
+     * The file is streamed to the client by a {@link StreamingResponseBody}, off the request thread,
+     * and served from the {@link ExportCache} while the data is unchanged.
      *
-     * @param filter   Optional search term to filter the exported students.
-     * @param isActive Optional status to filter the exported students.
-     * @param response The HttpServletResponse to which the CSV file will be written.
-     * @throws IOException if an I/O error occurs during file writing.
+     * The file is gzip-compressed on the fly when the client accepts the gzip content encoding,
+     * that is, lists {@code gzip} or {@code *} in {@code Accept-Encoding} with a quality above 0.
+     *
+     * @param filter         Optional search term to filter the exported students.
+     * @param isActive       Optional status to filter the exported students.
+     * @param acceptEncoding The content encodings accepted by the client.
+     * @param request        The current request, whose asynchronous processing the export is tied to.
+     * @return A {@link ResponseEntity} streaming the CSV file, or a 304 response if the client's copy is current.
+     * @throws IOException if the cached file cannot be opened.
      */
     @Operation(summary = "Download students as a CSV file", description = "Generates and downloads a CSV file containing students based on the provided filters.")
     @GetMapping("/download/csv")
-    public void downloadStudentsAsCsv(
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<StreamingResponseBody> downloadStudentsAsCsv(
             @RequestParam(required = false) String filter,
             @RequestParam(required = false) Boolean isActive,
-            HttpServletResponse response
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request
     ) throws IOException {
-        response.setContentType("text/csv");
-        DateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
-        String currentDateTime = dateFormatter.format(new Date());
-        String headerKey = "Content-Disposition";
-        String headerValue = "attachment; filename=students_" + currentDateTime + ".csv";
-        response.setHeader(headerKey, headerValue);
-
-        studentService.generateStudentsCsv(filter, isActive, response);
+        boolean gzip = csvCompressionEnabled && AcceptEncoding.acceptsGzip(acceptEncoding);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        ExportCacheKey key = new ExportCacheKey(ExportFormat.CSV, gzip, filter, isActive, studentService.getExportDataVersion());
+        return cachedDownload(request, key, "students", headers,
+                (outputStream, cancellation) -> studentService.generateStudentsCsv(filter, isActive, gzip, outputStream, cancellation));
     }
-    
+
+    /**
+     * Exports a list of students to a PDF file based on optional filters.
+     * The file is streamed to the client by a {@link StreamingResponseBody}, off the request thread,
+     * and served from the {@link ExportCache} while the data is unchanged.
+     *
+     * @param filter   Optional search term to filter the exported students.
+     * @param isActive Optional status to filter the exported students.
+     * @param request  The current request, whose asynchronous processing the export is tied to.
+     * @return A {@link ResponseEntity} streaming the PDF file, or a 304 response if the client's copy is current.
+     * @throws IOException if the cached file cannot be opened.
+     */
     @Operation(summary = "Download students as a PDF file", description = "Generates and downloads a PDF file containing students based on the provided filters.")
     @GetMapping("/download/pdf")
-    public void downloadStudentsAsPdf(
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<StreamingResponseBody> downloadStudentsAsPdf(
+            @RequestParam(required = false) String filter,
+            @RequestParam(required = false) Boolean isActive,
+            HttpServletRequest request
+    ) throws IOException {
+        ExportCacheKey key = new ExportCacheKey(ExportFormat.PDF, false, filter, isActive, studentService.getExportDataVersion());
+        return cachedDownload(request, key, "students", new HttpHeaders(),
+                (outputStream, cancellation) -> studentService.generateStudentsPdf(filter, isActive, outputStream, cancellation));
+    }
+
+    /**
+     * Exports the students of every department as a ZIP archive holding one file per department,
+     * based on optional filters. The department files are generated in parallel and the archive
+     * is streamed to the client as each of them completes.
+     *
+     * @param format   The format of the department files (XLSX, CSV or PDF).
+     * @param filter   Optional search term to filter the exported students.
+     * @param isActive Optional status to filter the exported students.
+     * @param request  The current request, whose asynchronous processing the export is tied to.
+     * @return A {@link ResponseEntity} streaming the ZIP archive.
+     */
+    @Operation(summary = "Download students as one file per department", description = "Generates and downloads a ZIP archive with one XLSX, CSV or PDF file per department, containing its students based on the provided filters.")
+    @GetMapping("/download/bundle")
+    @StatementBudget(StatementBudget.UNBOUNDED)
+    public ResponseEntity<StreamingResponseBody> downloadDepartmentBundle(
+            @RequestParam ExportFormat format,
             @RequestParam(required = false) String filter,
             @RequestParam(required = false) Boolean isActive,
-            HttpServletResponse response
-    ) throws IOException, JRException {
-        response.setContentType("application/pdf");
+            HttpServletRequest request
+    ) {
+        return streamDownload(request, "application/zip", "students_by_department", "zip", new HttpHeaders(),
+                (outputStream, cancellation) -> studentBundleExportService.exportDepartmentBundle(format, filter, isActive, outputStream, cancellation));
+    }
+
+    /**
+     * Returns a response streaming an export that is kept in the {@link ExportCache}. The response
+     * carries the entity tag of the export, so a client sending it back in {@code If-None-Match}
+     * gets a 304 response without a body as long as the data is unchanged. A cached file is
+     * streamed without taking a download slot, as it needs no database connection; otherwise the
+     * export is generated by {@link #streamDownload} and stored in the cache as it is written.
+     *
+     * @param request  The current request.
+     * @param key      The export.
+     * @param baseName The file name without the timestamp and extension.
+     * @param headers  Additional response headers.
+     * @param export   Generates the file.
+     * @return A {@link ResponseEntity} streaming the file as an attachment, or a 304 response.
+     * @throws IOException if the cached file cannot be opened.
+     */
+    private ResponseEntity<StreamingResponseBody> cachedDownload(HttpServletRequest request, ExportCacheKey key, String baseName,
+            HttpHeaders headers, StreamingExport export) throws IOException {
+        headers.setETag(key.etag());
+        if (new ServletWebRequest(request).checkNotModified(key.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        String contentType = key.format().getContentType();
+        String extension = key.format().getExtension();
+        Optional<InputStream> cached = exportCache.open(key);
+        if (cached.isPresent()) {
+            InputStream file = cached.get();
+            StreamingResponseBody body = outputStream -> {
+                try (file) {
+                    file.transferTo(outputStream);
+                }
+            };
+            return attachment(contentType, baseName, extension, headers).body(body);
+        }
+        return streamDownload(request, contentType, baseName, extension, headers,
+                (outputStream, cancellation) -> exportCache.writeThrough(key, outputStream,
+                        output -> export.writeTo(output, cancellation)));
+    }
+
+    /**
+     * Takes a download slot and returns a response streaming the export as an attachment.
+     * <p>
+     * Slot and cancellation are tied to the asynchronous processing of the request: when the
+     * container reports an error, such as the client disconnecting, or {@code spring.mvc.async.request-timeout}
+     * elapses, the export is cancelled, which also cancels the SQL statement it is waiting for.
+     * The slot is returned when the export ends, or when the request completes if the export never started.
+     *
+     * @param request     The current request.
+     * @param contentType The content type of the file.
+     * @param baseName    The file name without the timestamp and extension.
+     * @param extension   The file extension, without the leading dot.
+     * @param headers     Additional response headers.
+     * @param export      Writes the file.
+     * @return A {@link ResponseEntity} streaming the file as an attachment.
+     * @throws com.aurionpro.studentmanagement.exception.CapacityExceededException if no download slot became free in time.
+     */
+    private ResponseEntity<StreamingResponseBody> streamDownload(HttpServletRequest request, String contentType, String baseName,
+            String extension, HttpHeaders headers, StreamingExport export) {
+        // The slot is taken before any header is set, so a rejection is not sent as an attachment
+        ExportConcurrencyLimiter.Permit permit = exportConcurrencyLimiter.acquire();
+        ExportCancellation cancellation = new ExportCancellation();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportCancellation.class.getName(),
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> Object handleTimeout(NativeWebRequest webRequest, Callable<T> task) {
+                        cancellation.cancel();
+                        return RESULT_NONE;
+                    }
+
+                    @Override
+                    public <T> Object handleError(NativeWebRequest webRequest, Callable<T> task, Throwable t) {
+                        cancellation.cancel();
+                        return RESULT_NONE;
+                    }
+
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        permit.close();
+                    }
+                });
+
+        StreamingResponseBody body = outputStream -> {
+            try (permit) {
+                export.writeTo(outputStream, cancellation);
+            } catch (JRException e) {
+                throw new IOException("The PDF report could not be generated.", e);
+            }
+        };
+        return attachment(contentType, baseName, extension, headers).body(body);
+    }
+
+    /**
+     * Starts a successful response sending a file as an attachment named after the current time.
+     */
+    private static ResponseEntity.BodyBuilder attachment(String contentType, String baseName, String extension, HttpHeaders headers) {
         DateFormat dateFormatter = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
         String currentDateTime = dateFormatter.format(new Date());
-        String headerKey = "Content-Disposition";
-        String headerValue = "attachment; filename=students_" + currentDateTime + ".pdf";
-        response.setHeader(headerKey, headerValue);
-
-        studentService.generateStudentsPdf(filter, isActive, response);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + baseName + "_" + currentDateTime + "." + extension)
+                .headers(headers);
     }
 
-}
\ No newline at end of file
+    private static ApiResponse<BulkImportResultDto> importResponse(BulkImportResultDto result) {
+        String message = "Imported " + result.getImportedCount() + " of " + result.getTotalRows() + " students";
+        return new ApiResponse<>("success", message, result);
+    }
+}
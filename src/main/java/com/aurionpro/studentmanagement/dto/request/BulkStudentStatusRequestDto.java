@@ -0,0 +1,39 @@
+package com.aurionpro.studentmanagement.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for changing the active status of many students at once, such as
+ * deactivating a graduating cohort. The students are selected either by their business IDs,
+ * or by the same filter criteria accepted by the student listing; the two cannot be combined.
+ */
+@Getter
+@Setter
+public class BulkStudentStatusRequestDto {
+
+    /**
+     * The status to apply to the selected students (true for active, false for inactive).
+     * This field is mandatory.
+     */
+    @NotNull(message = "New status is required")
+    private Boolean newStatus;
+
+    /**
+     * The business IDs of the students to update.
+     */
+    private List<String> studentIds;
+
+    /**
+     * A search term selecting students by ID, name, or email, used when no IDs are given.
+     */
+    private String filter;
+
+    /**
+     * A current status selecting students (true for active, false for inactive), used when no IDs are given.
+     */
+    private Boolean isActive;
+}
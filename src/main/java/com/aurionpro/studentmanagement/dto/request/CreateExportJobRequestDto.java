@@ -0,0 +1,32 @@
+package com.aurionpro.studentmanagement.dto.request;
+
+import com.aurionpro.studentmanagement.export.ExportFormat;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for submitting an asynchronous student export job.
+ * The filter criteria are the same as those accepted by the synchronous download endpoints.
+ */
+@Getter
+@Setter
+public class CreateExportJobRequestDto {
+
+    /**
+     * The format of the file to generate. This field is mandatory.
+     */
+    @NotNull(message = "Export format is required")
+    private ExportFormat format;
+
+    /**
+     * An optional search term to filter students by ID, name, or email.
+     */
+    private String filter;
+
+    /**
+     * An optional status to filter students by (true for active, false for inactive).
+     */
+    private Boolean isActive;
+}
@@ -0,0 +1,40 @@
+package com.aurionpro.studentmanagement.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object summarizing the outcome of a bulk student import.
+ * Valid rows are imported even if other rows of the same batch are rejected;
+ * each rejected row is reported with the reasons it failed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDto {
+
+    /**
+     * The number of rows submitted in the batch.
+     */
+    private int totalRows;
+
+    /**
+     * The number of students that were created.
+     */
+    private int importedCount;
+
+    /**
+     * The number of rows that were rejected.
+     */
+    private int failedCount;
+
+    /**
+     * The validation errors of each rejected row, ordered by row number.
+     */
+    private List<BulkImportRowErrorDto> errors;
+}
@@ -0,0 +1,33 @@
+package com.aurionpro.studentmanagement.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object describing why a single row of a bulk student import was rejected.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportRowErrorDto {
+
+    /**
+     * The 1-based position of the row within the submitted batch, excluding any header row.
+     */
+    private int rowNumber;
+
+    /**
+     * The business ID given in the row, if any, to help locate it.
+     */
+    private String studentId;
+
+    /**
+     * The reasons the row was rejected.
+     */
+    private List<String> messages;
+}
@@ -0,0 +1,33 @@
+package com.aurionpro.studentmanagement.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object summarizing the outcome of a bulk student status change.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResultDto {
+
+    /**
+     * The number of existing students selected by the request.
+     */
+    private int matchedCount;
+
+    /**
+     * The number of selected students whose status was changed; the others already had the requested status.
+     */
+    private int updatedCount;
+
+    /**
+     * The requested business IDs for which no student exists. Always empty when students are selected by filter.
+     */
+    private List<String> missingStudentIds;
+}
@@ -1,14 +1,19 @@
 package com.aurionpro.studentmanagement.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
  * Data Transfer Object representing a course.
  * This is used in API responses to provide course details to the client.
+ * The all-arguments constructor allows JPQL queries to project rows directly into this DTO.
  */
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class CourseDto {
 
     /**
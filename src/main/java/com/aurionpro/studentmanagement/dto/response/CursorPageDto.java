@@ -0,0 +1,43 @@
+package com.aurionpro.studentmanagement.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A Data Transfer Object for a slice of results retrieved with keyset (cursor-based) pagination.
+ * Unlike a page, it carries no total count; clients request the following slice by passing
+ * back the {@code nextCursor} token.
+ *
+ * @param <T> The type of the items in the slice.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    /**
+     * The items of this slice.
+     */
+    private List<T> content;
+
+    /**
+     * The maximum number of items requested for this slice.
+     */
+    private int size;
+
+    /**
+     * Whether more items follow this slice.
+     */
+    private boolean hasNext;
+
+    /**
+     * An opaque token identifying the position after the last item of this slice,
+     * or null if there are no more items.
+     */
+    private String nextCursor;
+}
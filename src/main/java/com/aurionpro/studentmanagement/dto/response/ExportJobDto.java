@@ -0,0 +1,72 @@
+package com.aurionpro.studentmanagement.dto.response;
+
+import java.time.Instant;
+
+import com.aurionpro.studentmanagement.export.ExportFormat;
+import com.aurionpro.studentmanagement.export.ExportJobStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object describing the state of an asynchronous student export job.
+ */
+@Getter
+@Setter
+public class ExportJobDto {
+
+    /**
+     * The unique identifier of the job, used to poll its status and download its result.
+     */
+    private String jobId;
+
+    /**
+     * The format of the file being generated.
+     */
+    private ExportFormat format;
+
+    /**
+     * The current lifecycle state of the job.
+     */
+    private ExportJobStatus status;
+
+    /**
+     * The number of students matching the filter, known once the job starts running.
+     */
+    private long totalRows;
+
+    /**
+     * The number of students written to the file so far.
+     */
+    private long processedRows;
+
+    /**
+     * The completion percentage of the job, between 0 and 100.
+     */
+    private int progressPercent;
+
+    /**
+     * The UTC timestamp when the job was submitted.
+     */
+    private Instant createdAt;
+
+    /**
+     * The UTC timestamp when the job completed or failed.
+     */
+    private Instant completedAt;
+
+    /**
+     * The UTC timestamp after which the job and its file are removed.
+     */
+    private Instant expiresAt;
+
+    /**
+     * The reason the job failed, if it did.
+     */
+    private String errorMessage;
+
+    /**
+     * The relative URL from which the generated file can be downloaded, once the job has completed.
+     */
+    private String downloadUrl;
+}
@@ -4,6 +4,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
 
 /**
  * Represents a course offered within an academic department.
@@ -13,15 +17,18 @@ import lombok.Setter;
 @Table(name = "courses")
 @Getter
 @Setter
+@EntityListeners(AuditingEntityListener.class)
 @Schema(description = "Represents a course offered by a department.")
 public class Course {
 
     /**
      * The unique identifier for the course.
-     * This is the primary key and is auto-generated by the database.
+     * This is the primary key, drawn from the "courses_seq" database sequence in blocks of 50,
+     * so that new courses can be inserted in JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 50)
     @Schema(description = "Auto-generated unique database identifier.", example = "101")
     private Long id;
 
@@ -55,4 +62,13 @@ public class Course {
     @Column(name = "is_active", nullable = false)
     @Schema(description = "Indicates if the course record is active.", example = "true")
     private boolean isActive = true;
+
+    /**
+     * The timestamp when the course record was last updated.
+     * This is automatically managed by JPA Auditing and feeds the data version of cached exports.
+     */
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    @Schema(description = "UTC timestamp when the course record was last updated.")
+    private Instant updatedAt;
 }
\ No newline at end of file
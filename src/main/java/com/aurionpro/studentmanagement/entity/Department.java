@@ -4,16 +4,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
  * Represents an academic department within the institution.
@@ -24,15 +29,18 @@ import lombok.Setter;
 @Table(name = "departments")
 @Getter
 @Setter
+@EntityListeners(AuditingEntityListener.class)
 @Schema(description = "Represents an academic department in the institution.")
 public class Department {
 
     /**
      * The unique identifier for the department.
-     * This is the primary key and is auto-generated by the database.
+     * This is the primary key, drawn from the "departments_seq" database sequence in blocks of 50,
+     * so that new departments can be inserted in JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50)
     @Schema(description = "Auto-generated unique database identifier.", example = "1")
     private Long id;
 
@@ -68,4 +76,13 @@ public class Department {
      */
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Course> courses = new ArrayList<>();
+
+    /**
+     * The timestamp when the department record was last updated.
+     * This is automatically managed by JPA Auditing and feeds the data version of cached exports.
+     */
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    @Schema(description = "UTC timestamp when the department record was last updated.")
+    private Instant updatedAt;
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,7 +20,14 @@ import java.util.Set;
  * and update timestamps.
  */
 @Entity
-@Table(name = "students")
+@Table(name = "students", indexes = {
+        // Support keyset pagination on the sortable name and timestamp columns, with the ID as tie-breaker
+        @Index(name = "idx_students_first_name_id", columnList = "first_name, id"),
+        @Index(name = "idx_students_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_students_created_at_id", columnList = "created_at, id"),
+        // Lets the export data version read the latest update from the index alone
+        @Index(name = "idx_students_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class) // Enable JPA Auditing
@@ -28,10 +36,13 @@ public class Student {
 
     /**
      * The internal unique identifier for the student record.
-     * This is the primary key and is auto-generated by the database.
+     * This is the primary key, drawn from the "students_seq" database sequence. Identifiers are
+     * allocated in blocks of 50, so Hibernate can batch inserts instead of executing one
+     * statement per student to learn its generated key.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     @Schema(description = "Auto-generated unique database identifier.", example = "1")
     private Long id;
 
@@ -78,8 +89,11 @@ public class Student {
      * The set of courses in which the student is currently enrolled.
      * This establishes a many-to-many relationship, managed through a join table
      * named "student_courses".
+     * The collections of up to 100 students are initialized together in a single query,
+     * so rendering a list of students does not issue one query per student.
      */
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JoinTable(
             name = "student_courses",
             joinColumns = @JoinColumn(name = "student_id"),
@@ -0,0 +1,25 @@
+package com.aurionpro.studentmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * An exception thrown when a request cannot be accepted because a bounded resource,
+ * such as the export job queue, is currently at capacity. The client may retry later.
+ * <p>
+ * This exception results in an HTTP 429 (Too Many Requests) response.
+ */
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+public class CapacityExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+     * Constructs a new CapacityExceededException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+	public CapacityExceededException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,32 @@
+package com.aurionpro.studentmanagement.exception;
+
+/**
+ * An exception thrown when an export stops before it is complete because it was cancelled,
+ * for instance because the client downloading it disconnected or the download timed out.
+ * <p>
+ * By the time it is thrown, the response has usually been committed or the client is gone,
+ * so it is only logged rather than turned into an error response.
+ */
+public class ExportAbortedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+     * Constructs a new ExportAbortedException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+	public ExportAbortedException(String message) {
+		super(message);
+	}
+
+	/**
+     * Constructs a new ExportAbortedException with the specified detail message and cause.
+     *
+     * @param message the detail message.
+     * @param cause   the failure caused by the cancellation, such as that of a cancelled SQL statement.
+     */
+	public ExportAbortedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -7,16 +7,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * A centralized exception handler for the entire application.
  * This class uses {@link ControllerAdvice} to intercept exceptions thrown from any controller
  * and formats them into a standardized {@link ApiResponse} object.
  */
 @ControllerAdvice
+@Slf4j
 public class GlobalExceptionHandler {
 
     /**
@@ -74,6 +78,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles {@link CapacityExceededException}.
+     * This is thrown when a bounded resource, such as the export job queue, is full.
+     *
+     * @param ex The caught CapacityExceededException.
+     * @return A ResponseEntity with a 429 Too Many Requests status and an error message.
+     */
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleCapacityExceededException(CapacityExceededException ex) {
+        ApiResponse<Object> response = new ApiResponse<>("error", ex.getMessage(), null);
+        return new ResponseEntity<>(response, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Handles {@link ExportAbortedException}.
+     * This is thrown when a streamed download is cancelled, usually because the client disconnected.
+     * The response has already been committed, so there is nothing left to send.
+     *
+     * @param ex The caught ExportAbortedException.
+     */
+    @ExceptionHandler(ExportAbortedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public void handleExportAbortedException(ExportAbortedException ex) {
+        log.info("Export download aborted: {}", ex.getMessage());
+    }
+
     /**
      * Handles {@link MethodArgumentNotValidException}.
      * This is thrown automatically by Spring Boot when DTOs annotated with {@code @Valid} fail validation.
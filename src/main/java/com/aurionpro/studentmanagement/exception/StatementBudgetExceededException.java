@@ -0,0 +1,23 @@
+package com.aurionpro.studentmanagement.exception;
+
+/**
+ * An exception thrown when a request issues more SQL statements than the budget of its controller
+ * method, which usually means an N+1 query pattern crept in.
+ * <p>
+ * It is only thrown when {@code app.monitoring.statement-budget.fail-on-exceed} is enabled, as it is
+ * in the test profile, so that such regressions fail the integration tests. It is deliberately not
+ * handled, so it surfaces as a server error.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+     * Constructs a new StatementBudgetExceededException with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+	public StatementBudgetExceededException(String message) {
+		super(message);
+	}
+}
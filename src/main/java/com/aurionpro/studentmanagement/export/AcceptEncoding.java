@@ -0,0 +1,65 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.util.Locale;
+
+/**
+ * Reads the content codings a client accepts from its {@code Accept-Encoding} header, as defined in
+ * RFC 9110, section 12.5.3: a comma-separated list of codings, each with an optional quality value
+ * {@code q} between 0 and 1, where 0 means the coding is not acceptable.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Returns whether the client accepts a gzip-compressed response: either {@code gzip}, or its
+     * alias {@code x-gzip}, is listed with a quality above 0, or it is not listed and {@code *} is.
+     *
+     * @param header The value of the {@code Accept-Encoding} header, or null if the client sent none.
+     * @return Whether the response may be gzip-compressed.
+     */
+    public static boolean acceptsGzip(String header) {
+        if (header == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : header.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality == null ? 0 : gzipQuality, quality(parameters));
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality(parameters);
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    /**
+     * Returns the quality value among the parameters of a coding, 1 if it has none, or 0 if it is
+     * malformed, so that a coding the header does not clearly accept is not used.
+     */
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q') {
+                String value = parameter.substring(1).trim();
+                if (!value.startsWith("=")) {
+                    continue;
+                }
+                try {
+                    double quality = Double.parseDouble(value.substring(1).trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
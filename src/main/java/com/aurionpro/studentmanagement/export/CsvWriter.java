@@ -0,0 +1,240 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes RFC 4180 CSV records as UTF-8, optionally gzip-compressed.
+ * <p>
+ * Characters are encoded straight into a reusable byte buffer, which is written to the output stream
+ * whenever it is full, so that writing a record allocates no strings, arrays or encoders. Fields are
+ * separated by commas and records end with CRLF. A field containing a comma, a double quote or a line
+ * break is enclosed in double quotes, with its double quotes doubled; other fields are written as is.
+ * <p>
+ * Not thread-safe. Closing the writer flushes it and ends the gzip stream, but leaves the underlying
+ * output stream open, as it is owned by the caller.
+ */
+public final class CsvWriter implements Closeable {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /** The most bytes written for one character: 4 for a surrogate pair, 2 for a doubled quote. */
+    private static final int MAX_BYTES_PER_CHARACTER = 4;
+
+    private static final byte QUOTE = '"';
+    private static final byte SEPARATOR = ',';
+
+    private final OutputStream outputStream;
+    private final GZIPOutputStream gzipStream;
+    private final byte[] buffer;
+    private int position;
+    private boolean recordStarted;
+
+    /**
+     * Creates a writer with a buffer of {@value #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param outputStream The stream to write to.
+     * @param gzip         Whether to gzip-compress the output.
+     * @throws IOException if the gzip header cannot be written.
+     */
+    public CsvWriter(OutputStream outputStream, boolean gzip) throws IOException {
+        this(outputStream, gzip, DEFAULT_BUFFER_SIZE);
+    }
+
+    CsvWriter(OutputStream outputStream, boolean gzip, int bufferSize) throws IOException {
+        if (bufferSize < MAX_BYTES_PER_CHARACTER) {
+            throw new IllegalArgumentException("The buffer must hold at least one encoded character.");
+        }
+        this.gzipStream = gzip ? new GZIPOutputStream(outputStream, bufferSize) : null;
+        this.outputStream = gzip ? gzipStream : outputStream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Writes a complete record.
+     *
+     * @param values The fields of the record; null values are written as empty fields.
+     * @return This writer.
+     * @throws IOException if writing to the output stream fails.
+     */
+    public CsvWriter record(CharSequence... values) throws IOException {
+        for (CharSequence value : values) {
+            field(value);
+        }
+        return endRecord();
+    }
+
+    /**
+     * Appends a field to the current record.
+     *
+     * @param value The value of the field; null is written as an empty field.
+     * @return This writer.
+     * @throws IOException if writing to the output stream fails.
+     */
+    public CsvWriter field(CharSequence value) throws IOException {
+        startField();
+        if (value == null) {
+            return this;
+        }
+        boolean quoted = needsQuotes(value);
+        if (quoted) {
+            writeByte(QUOTE);
+        }
+        writeText(value, quoted);
+        if (quoted) {
+            writeByte(QUOTE);
+        }
+        return this;
+    }
+
+    /**
+     * Appends a field holding several values joined by a separator, without building the joined string.
+     *
+     * @param values    The values to join.
+     * @param text      Extracts the text of each value; null texts are written as empty strings.
+     * @param separator The separator written between the values.
+     * @param <T>       The type of the values.
+     * @return This writer.
+     * @throws IOException if writing to the output stream fails.
+     */
+    public <T> CsvWriter joinedField(Collection<T> values, Function<? super T, ? extends CharSequence> text,
+            String separator) throws IOException {
+        startField();
+        boolean quoted = values.size() > 1 && needsQuotes(separator);
+        if (!quoted) {
+            for (T value : values) {
+                CharSequence valueText = text.apply(value);
+                if (valueText != null && needsQuotes(valueText)) {
+                    quoted = true;
+                    break;
+                }
+            }
+        }
+        if (quoted) {
+            writeByte(QUOTE);
+        }
+        boolean first = true;
+        for (T value : values) {
+            if (!first) {
+                writeText(separator, quoted);
+            }
+            CharSequence valueText = text.apply(value);
+            if (valueText != null) {
+                writeText(valueText, quoted);
+            }
+            first = false;
+        }
+        if (quoted) {
+            writeByte(QUOTE);
+        }
+        return this;
+    }
+
+    /**
+     * Ends the current record.
+     *
+     * @return This writer.
+     * @throws IOException if writing to the output stream fails.
+     */
+    public CsvWriter endRecord() throws IOException {
+        writeByte((byte) '\r');
+        writeByte((byte) '\n');
+        recordStarted = false;
+        return this;
+    }
+
+    /**
+     * Writes the buffered bytes to the output stream and flushes it. With gzip, the compressor may
+     * still hold back data until the writer is closed.
+     *
+     * @throws IOException if writing to the output stream fails.
+     */
+    public void flush() throws IOException {
+        drain();
+        outputStream.flush();
+    }
+
+    /**
+     * Flushes the writer and ends the gzip stream, without closing the underlying output stream.
+     *
+     * @throws IOException if writing to the output stream fails.
+     */
+    @Override
+    public void close() throws IOException {
+        drain();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        outputStream.flush();
+    }
+
+    private void startField() throws IOException {
+        if (recordStarted) {
+            writeByte(SEPARATOR);
+        }
+        recordStarted = true;
+    }
+
+    private static boolean needsQuotes(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Encodes the text as UTF-8 into the buffer, doubling double quotes within quoted fields.
+     * An unpaired surrogate is written as {@code ?}, as {@link String#getBytes} would.
+     */
+    private void writeText(CharSequence text, boolean quoted) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (buffer.length - position < MAX_BYTES_PER_CHARACTER) {
+                drain();
+            }
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' && quoted) {
+                    buffer[position++] = QUOTE;
+                }
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeByte(byte b) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = b;
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRException;
+
+/**
+ * Keeps finished export files on local disk, so that repeated downloads of the same export are
+ * served from the file instead of being generated from the database again.
+ * <p>
+ * Files are keyed by {@link ExportCacheKey}, which includes the data version, so a file is not
+ * served once the data it was generated from has changed. Files of older versions are no longer
+ * requested and are the first to go when the files are evicted in least recently used order, once
+ * their total size exceeds {@code app.export.cache.max-size-mb}. The index of the files is held in
+ * memory, so the cache starts empty after a restart. Its use is published as:
+ * <ul>
+ *   <li>{@code app.export.cache.requests}: lookups, tagged with their result, {@code hit} or {@code miss}.</li>
+ *   <li>{@code app.export.cache.size}: the total size of the cached files, in bytes.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class ExportCache {
+
+    /**
+     * Writes an export to the given stream.
+     */
+    @FunctionalInterface
+    public interface ExportWriter {
+        void writeTo(OutputStream outputStream) throws IOException, JRException;
+    }
+
+    private static final String PARTIAL_SUFFIX = ".partial";
+
+    private record CachedExport(Path file, long size) {
+    }
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    // Guards the index; a lock rather than synchronized, so virtual threads opening a file are not pinned
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedExport> exports = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile long totalSize;
+
+    public ExportCache(@Value("${app.export.cache.enabled:true}") boolean enabled,
+            @Value("${app.export.cache.dir}") String directory,
+            @Value("${app.export.cache.max-size-mb:512}") long maxSizeMb,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory).toAbsolutePath();
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.hits = Counter.builder("app.export.cache.requests")
+                .description("Lookups of finished exports in the disk cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("app.export.cache.requests")
+                .description("Lookups of finished exports in the disk cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("app.export.cache.size", this, cache -> cache.totalSize)
+                .description("Total size of the exports in the disk cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates the cache directory and removes the files left behind by a previous run,
+     * which the new, empty index does not know about.
+     *
+     * @throws IOException if the directory cannot be created or listed.
+     */
+    @PostConstruct
+    void initializeDirectory() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory)) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        }
+    }
+
+    /**
+     * Opens the cached file of an export. The file stays readable through the returned stream
+     * even if it is evicted in the meantime.
+     *
+     * @param key The export to look up.
+     * @return The stream reading the file, to be closed by the caller, or empty if the export is not cached.
+     * @throws IOException if the file exists but cannot be opened.
+     */
+    public Optional<InputStream> open(ExportCacheKey key) throws IOException {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        lock.lock();
+        try {
+            CachedExport export = exports.get(key.id());
+            if (export != null) {
+                try {
+                    InputStream inputStream = Files.newInputStream(export.file());
+                    hits.increment();
+                    return Optional.of(inputStream);
+                } catch (NoSuchFileException e) {
+                    log.warn("Cached export {} was removed from {}, it will be generated again.", export.file().getFileName(), directory);
+                    exports.remove(key.id());
+                    totalSize -= export.size();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Writes an export to the given stream, keeping a copy that is added to the cache once the
+     * export completes. If the export fails, for instance because it is cancelled, the copy is
+     * discarded. Exports larger than the whole cache are not kept.
+     *
+     * @param key          The export being written.
+     * @param outputStream The stream to which the export is written. It is not closed by this method.
+     * @param writer       Writes the export.
+     * @throws IOException if an I/O error occurs.
+     * @throws JRException if a JasperReports error occurs.
+     */
+    public void writeThrough(ExportCacheKey key, OutputStream outputStream, ExportWriter writer) throws IOException, JRException {
+        if (!enabled) {
+            writer.writeTo(outputStream);
+            return;
+        }
+        Path partialFile = Files.createTempFile(directory, key.id() + "-", PARTIAL_SUFFIX);
+        try {
+            try (OutputStream fileStream = new BufferedOutputStream(Files.newOutputStream(partialFile))) {
+                writer.writeTo(new TeeOutputStream(outputStream, fileStream));
+            }
+            store(key, partialFile);
+        } finally {
+            // Left over unless it was moved into the cache
+            deleteQuietly(partialFile);
+        }
+    }
+
+    /**
+     * Moves a completed export into the cache and evicts the least recently used files over the size limit.
+     */
+    private void store(ExportCacheKey key, Path partialFile) throws IOException {
+        long size = Files.size(partialFile);
+        if (size > maxSizeBytes) {
+            log.info("{} export of {} bytes exceeds the cache size and is not cached.", key.format(), size);
+            return;
+        }
+        Path file = directory.resolve(key.fileName());
+        lock.lock();
+        try {
+            // Replaces the file of a concurrent download of the same export; open streams keep reading the old one
+            Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            CachedExport previous = exports.put(key.id(), new CachedExport(file, size));
+            long newTotalSize = totalSize + size - (previous == null ? 0 : previous.size());
+            Iterator<CachedExport> leastRecentlyUsed = exports.values().iterator();
+            while (newTotalSize > maxSizeBytes) {
+                CachedExport evicted = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                newTotalSize -= evicted.size();
+                deleteQuietly(evicted.file());
+            }
+            totalSize = newTotalSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete cached export file {}", file, e);
+        }
+    }
+
+    /**
+     * Writes every byte to two streams. Closing it closes neither of them.
+     */
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream first;
+        private final OutputStream second;
+
+        private TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Identifies an export in the {@link ExportCache}: the file generated in one format and encoding,
+ * for one set of filter criteria, from one version of the data.
+ *
+ * @param format      The format of the file.
+ * @param gzip        Whether the file is gzip-compressed.
+ * @param filter      The search filter. Normalized the way the search matches it, so that equivalent
+ *                    filters share an entry.
+ * @param isActive    The active status filter, or null for all students.
+ * @param dataVersion The data version the file is generated from, see
+ *                    {@link com.aurionpro.studentmanagement.service.StudentService#getExportDataVersion()}.
+ */
+public record ExportCacheKey(ExportFormat format, boolean gzip, String filter, Boolean isActive, String dataVersion) {
+
+    public ExportCacheKey {
+        filter = StringUtils.hasText(filter) ? filter.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Returns a digest of the key, which names the cached file and tags the download.
+     *
+     * @return The SHA-256 digest of the key, in hexadecimal.
+     */
+    public String id() {
+        String key = String.join("\n", format.name(), String.valueOf(gzip), String.valueOf(filter),
+                String.valueOf(isActive), dataVersion);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Returns the entity tag of the download. The tag is weak, because two files generated from the
+     * same data hold the same students but may differ in metadata such as their creation time.
+     *
+     * @return The entity tag, quoted as in the {@code ETag} header.
+     */
+    public String etag() {
+        return "W/\"" + id() + "\"";
+    }
+
+    /**
+     * Returns the name of the cached file.
+     *
+     * @return The name of the file, with the extension of its format.
+     */
+    public String fileName() {
+        return id() + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+}
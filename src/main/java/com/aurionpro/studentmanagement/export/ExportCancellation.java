@@ -0,0 +1,84 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.aurionpro.studentmanagement.exception.ExportAbortedException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Signals that an export should stop, for instance because the client downloading it disconnected.
+ * <p>
+ * The export checks {@link #throwIfCancelled()} as it reads each student, and registers actions with
+ * {@link #onCancel(Runnable)} to interrupt work that does not return on its own, such as an SQL
+ * statement waiting for the database. {@link #cancel()} may be called from any thread.
+ */
+@Slf4j
+public final class ExportCancellation {
+
+    /**
+     * Removes an action registered with {@link #onCancel(Runnable)}.
+     */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final List<Runnable> actions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Cancels the export and runs the registered actions. Only the first call has an effect.
+     */
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            for (Runnable action : actions) {
+                // an action registered concurrently may be run by onCancel instead, but never twice
+                if (actions.remove(action)) {
+                    runQuietly(action);
+                }
+            }
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Registers an action to run when the export is cancelled, or right away if it already is.
+     * The action runs on the thread calling {@link #cancel()}.
+     *
+     * @param action The action to run, e.g. one cancelling the SQL statement of the export.
+     * @return A registration to close once the action is no longer applicable.
+     */
+    public Registration onCancel(Runnable action) {
+        actions.add(action);
+        if (cancelled.get() && actions.remove(action)) {
+            runQuietly(action);
+        }
+        return () -> actions.remove(action);
+    }
+
+    /**
+     * Stops the export if it was cancelled or its thread was interrupted.
+     *
+     * @throws ExportAbortedException if the export should stop.
+     */
+    public void throwIfCancelled() {
+        if (cancelled.get() || Thread.currentThread().isInterrupted()) {
+            throw new ExportAbortedException("The export was cancelled before it completed.");
+        }
+    }
+
+    private static void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("Unable to cancel part of an export.", e);
+        }
+    }
+}
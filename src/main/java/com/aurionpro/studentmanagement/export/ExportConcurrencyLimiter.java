@@ -0,0 +1,77 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.aurionpro.studentmanagement.exception.CapacityExceededException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounds the number of export downloads streamed at the same time.
+ * <p>
+ * An export holds a database connection for as long as it takes to stream the file. With virtual
+ * threads the web tier no longer limits how many requests run concurrently, so without this bound
+ * a burst of downloads could take every pooled connection and starve the interactive endpoints.
+ * Together with {@code app.export.jobs.max-concurrent-jobs}, the limit should stay well below
+ * {@code spring.datasource.hikari.maximum-pool-size}.
+ */
+@Component
+@Slf4j
+public class ExportConcurrencyLimiter {
+
+    /**
+     * A download slot, returned to the limiter when closed. Closing it more than once has no effect,
+     * so a streamed download can close it both when the export finishes and when the request completes.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private final int maxConcurrentDownloads;
+    private final Semaphore permits;
+    private final long waitMillis;
+
+    public ExportConcurrencyLimiter(@Value("${app.export.max-concurrent-downloads:4}") int maxConcurrentDownloads,
+            @Value("${app.export.download-wait-ms:2000}") long waitMillis) {
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
+        this.permits = new Semaphore(maxConcurrentDownloads, true);
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * Takes a download slot once one is free, waiting at most {@code app.export.download-wait-ms} for one.
+     *
+     * @return The slot, to be closed once the export has finished.
+     * @throws CapacityExceededException if no slot became free in time.
+     */
+    public Permit acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("Rejected export download, all {} download slots are in use.", maxConcurrentDownloads);
+            throw new CapacityExceededException("Too many exports are in progress. Please try again later or submit an export job.");
+        }
+        return new Permit();
+    }
+}
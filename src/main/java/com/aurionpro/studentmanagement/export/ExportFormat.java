@@ -0,0 +1,27 @@
+package com.aurionpro.studentmanagement.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The file formats in which student data can be exported,
+ * together with the content type and file extension used when serving them.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+    CSV("text/csv; charset=UTF-8", "csv"),
+    PDF("application/pdf", "pdf");
+
+    /**
+     * The MIME type sent in the {@code Content-Type} header.
+     */
+    private final String contentType;
+
+    /**
+     * The file extension, without the leading dot.
+     */
+    private final String extension;
+}
@@ -0,0 +1,120 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * The state of a single asynchronous student export, shared between the worker thread
+ * generating the file and the request threads polling for its status.
+ * The export fields are written by the worker only and are safe to read from any thread.
+ * The downloads of the generated file are tracked under the job's lock, so that the file
+ * is not removed while a download is reading it.
+ */
+@Getter
+public class ExportJob {
+
+    private final String id;
+    private final ExportFormat format;
+    private final String filter;
+    private final Boolean isActive;
+    private final Instant createdAt;
+
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile long totalRows;
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong processedRows = new AtomicLong();
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile Instant expiresAt;
+    private volatile Path resultFile;
+    private volatile String errorMessage;
+    @Getter(AccessLevel.NONE)
+    private int activeDownloads;
+    @Getter(AccessLevel.NONE)
+    private boolean removed;
+
+    public ExportJob(String id, ExportFormat format, String filter, Boolean isActive) {
+        this.id = id;
+        this.format = format;
+        this.filter = filter;
+        this.isActive = isActive;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * @return The number of students written to the file so far.
+     */
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    /**
+     * @return {@code true} while the job is queued or running.
+     */
+    public boolean isInProgress() {
+        return status == ExportJobStatus.QUEUED || status == ExportJobStatus.RUNNING;
+    }
+
+    public void markRunning(long totalRows) {
+        this.totalRows = totalRows;
+        this.startedAt = Instant.now();
+        this.status = ExportJobStatus.RUNNING;
+    }
+
+    public void updateProgress(long processedRows) {
+        this.processedRows.set(processedRows);
+    }
+
+    public void markCompleted(Path resultFile, Instant expiresAt) {
+        this.resultFile = resultFile;
+        this.completedAt = Instant.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.COMPLETED;
+    }
+
+    /**
+     * Records the start of a download of the generated file.
+     *
+     * @return {@code false} if the job has already been removed, so its file must not be read.
+     */
+    public synchronized boolean startDownload() {
+        if (removed) {
+            return false;
+        }
+        activeDownloads++;
+        return true;
+    }
+
+    /**
+     * Records the end of a download started with {@link #startDownload()}.
+     */
+    public synchronized void finishDownload() {
+        activeDownloads--;
+    }
+
+    /**
+     * Marks the job as removed if it has expired and none of its downloads is in progress.
+     * Once removed, no new download can start, so its file may be deleted.
+     *
+     * @param now The current time.
+     * @return {@code true} if the job was removed.
+     */
+    public synchronized boolean removeIfExpired(Instant now) {
+        if (expiresAt == null || !expiresAt.isBefore(now) || activeDownloads > 0) {
+            return false;
+        }
+        removed = true;
+        return true;
+    }
+
+    public void markFailed(String errorMessage, Instant expiresAt) {
+        this.errorMessage = errorMessage;
+        this.completedAt = Instant.now();
+        this.expiresAt = expiresAt;
+        this.status = ExportJobStatus.FAILED;
+    }
+}
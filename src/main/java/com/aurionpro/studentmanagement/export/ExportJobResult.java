@@ -0,0 +1,14 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.io.InputStream;
+
+/**
+ * The generated file of a completed export job, ready to be streamed to the client.
+ * The file is kept until its content stream is closed, even if the job expires in the meantime.
+ *
+ * @param content  The open stream reading the generated file, to be closed once it is sent.
+ * @param size     The size of the generated file in bytes.
+ * @param format   The format of the generated file.
+ * @param fileName The file name suggested to the client.
+ */
+public record ExportJobResult(InputStream content, long size, ExportFormat format, String fileName) {}
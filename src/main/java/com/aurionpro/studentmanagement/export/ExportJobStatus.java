@@ -0,0 +1,19 @@
+package com.aurionpro.studentmanagement.export;
+
+/**
+ * The lifecycle states of an asynchronous export job.
+ */
+public enum ExportJobStatus {
+
+    /** The job has been accepted and is waiting for a free worker. */
+    QUEUED,
+
+    /** The file is being generated. */
+    RUNNING,
+
+    /** The file has been generated and can be downloaded until the job expires. */
+    COMPLETED,
+
+    /** The file could not be generated. */
+    FAILED
+}
@@ -0,0 +1,114 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.LongConsumer;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the rows and bytes written by exports and how long they take, tagged by format:
+ * <ul>
+ *   <li>{@code app.export.rows}: the number of students exported.</li>
+ *   <li>{@code app.export.bytes}: the number of bytes written.</li>
+ *   <li>{@code app.export.duration}: the duration of each export, additionally tagged with its outcome.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Starts recording an export.
+     *
+     * @param format The format of the export.
+     * @return The recording, to be notified of the rows read and stopped when the export ends.
+     */
+    public Recording start(ExportFormat format) {
+        return new Recording(format);
+    }
+
+    /**
+     * The recording of a single export. Passed as the progress listener of the export, it
+     * receives the number of rows read so far.
+     */
+    public final class Recording implements LongConsumer {
+
+        private final ExportFormat format;
+        private final Timer.Sample sample;
+        private long rows;
+        private long bytes;
+
+        private Recording(ExportFormat format) {
+            this.format = format;
+            this.sample = Timer.start(meterRegistry);
+        }
+
+        @Override
+        public void accept(long rowsRead) {
+            rows = rowsRead;
+        }
+
+        /**
+         * Wraps the output stream of the export, so that the bytes written are counted.
+         *
+         * @param outputStream The stream the export writes to.
+         * @return The counting stream; closing it does not close the wrapped stream.
+         */
+        public OutputStream countBytes(OutputStream outputStream) {
+            return new FilterOutputStream(outputStream) {
+
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes += len;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+
+        /**
+         * Stops the recording and publishes its measurements.
+         *
+         * @param success Whether the export completed successfully.
+         */
+        public void stop(boolean success) {
+            String formatTag = format.getExtension();
+            sample.stop(Timer.builder("app.export.duration")
+                    .description("Duration of student exports")
+                    .tag("format", formatTag)
+                    .tag("outcome", success ? "success" : "failure")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            Counter.builder("app.export.rows")
+                    .description("Students written by exports")
+                    .tag("format", formatTag)
+                    .register(meterRegistry)
+                    .increment(rows);
+            Counter.builder("app.export.bytes")
+                    .description("Bytes written by exports")
+                    .tag("format", formatTag)
+                    .baseUnit("bytes")
+                    .register(meterRegistry)
+                    .increment(bytes);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperReport;
+
+/**
+ * Holds compiled JasperReports templates and the static images they reference.
+ * Compiling a JRXML template is expensive, so each template is compiled only once and the
+ * resulting {@link JasperReport} is reused for every fill. The student list template and
+ * its logo are loaded eagerly at startup so the first PDF download does not pay the cost.
+ */
+@Component
+@Slf4j
+public class ReportTemplateCache {
+
+    /** Classpath location of the student list report template. */
+    public static final String STUDENT_LIST_TEMPLATE = "/reports/student-list.jrxml";
+
+    /** Classpath location of the logo rendered in the report title. */
+    public static final String LOGO_IMAGE = "/images/aurionpro-logo.png";
+
+    private final Map<String, JasperReport> compiledReports = new ConcurrentHashMap<>();
+    private final Map<String, Optional<byte[]>> images = new ConcurrentHashMap<>();
+
+    /** Guards compilation; a lock rather than a monitor, so a waiting virtual thread does not pin its carrier. */
+    private final Lock compileLock = new ReentrantLock();
+
+    /**
+     * Compiles the student list template and loads its logo when the application starts.
+     *
+     * @throws JRException if the template cannot be found or compiled.
+     */
+    @PostConstruct
+    void preload() throws JRException {
+        getReport(STUDENT_LIST_TEMPLATE);
+        openImage(LOGO_IMAGE);
+    }
+
+    /**
+     * Returns the compiled report for the given JRXML template, compiling it on first use.
+     * A compiled report is immutable and can be filled concurrently by multiple requests.
+     *
+     * @param templatePath The classpath location of the JRXML template.
+     * @return The compiled {@link JasperReport}.
+     * @throws JRException if the template cannot be found or compiled.
+     */
+    public JasperReport getReport(String templatePath) throws JRException {
+        JasperReport report = compiledReports.get(templatePath);
+        if (report == null) {
+            compileLock.lock();
+            try {
+                report = compiledReports.get(templatePath);
+                if (report == null) {
+                    report = compile(templatePath);
+                    compiledReports.put(templatePath, report);
+                }
+            } finally {
+                compileLock.unlock();
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Opens a fresh stream over the cached bytes of the given image. The image is read from
+     * the classpath only once; each caller receives its own stream, as a report fill consumes it.
+     *
+     * @param imagePath The classpath location of the image.
+     * @return A new {@link InputStream} over the image bytes, or {@code null} if the image does not exist.
+     */
+    public InputStream openImage(String imagePath) {
+        return images.computeIfAbsent(imagePath, this::readImage)
+                .map(ByteArrayInputStream::new)
+                .orElse(null);
+    }
+
+    private JasperReport compile(String templatePath) throws JRException {
+        long start = System.currentTimeMillis();
+        try (InputStream reportStream = getClass().getResourceAsStream(templatePath)) {
+            if (reportStream == null) {
+                log.error("JRXML template not found: {}", templatePath);
+                throw new JRException("Resource not found: " + templatePath);
+            }
+            JasperReport report = JasperCompileManager.compileReport(reportStream);
+            log.info("Compiled report template {} in {} ms.", templatePath, System.currentTimeMillis() - start);
+            return report;
+        } catch (IOException e) {
+            throw new JRException("Unable to read report template: " + templatePath, e);
+        }
+    }
+
+    private Optional<byte[]> readImage(String imagePath) {
+        try (InputStream imageStream = getClass().getResourceAsStream(imagePath)) {
+            if (imageStream == null) {
+                log.error("Image {} not found in resources! Reports will be generated without it.", imagePath);
+                return Optional.empty();
+            }
+            return Optional.of(imageStream.readAllBytes());
+        } catch (IOException e) {
+            log.error("Unable to read image {}. Reports will be generated without it.", imagePath, e);
+            return Optional.empty();
+        }
+    }
+}
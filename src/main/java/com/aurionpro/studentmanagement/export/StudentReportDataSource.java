@@ -0,0 +1,52 @@
+package com.aurionpro.studentmanagement.export;
+
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Student;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+/**
+ * Feeds the fields of the student list report from a stream of students, one student at a time.
+ * <p>
+ * Unlike a {@code JRBeanCollectionDataSource} over a pre-built list, only the current student is
+ * referenced, so the rows read from a database cursor can be released as soon as they have been
+ * filled into the report.
+ */
+public final class StudentReportDataSource implements JRDataSource {
+
+    private final Iterator<Student> students;
+    private Student current;
+
+    /**
+     * @param students The students to fill into the report. The stream is consumed incrementally
+     *                 and is not closed by this data source.
+     */
+    public StudentReportDataSource(Stream<Student> students) {
+        this.students = students.iterator();
+    }
+
+    @Override
+    public boolean next() {
+        current = students.hasNext() ? students.next() : null;
+        return current != null;
+    }
+
+    @Override
+    public Object getFieldValue(JRField field) throws JRException {
+        return switch (field.getName()) {
+            case "studentId" -> current.getStudentId();
+            case "name" -> current.getFirstName() + " " + current.getLastName();
+            case "email" -> current.getEmail();
+            case "department" -> current.getDepartment().getName().replace('_', ' ');
+            case "courses" -> current.getCourses().stream().map(Course::getName).collect(Collectors.joining(", "));
+            case "status" -> current.isActive() ? "Active" : "Inactive";
+            default -> throw new JRException("Unknown field '" + field.getName() + "' in the student list report.");
+        };
+    }
+}
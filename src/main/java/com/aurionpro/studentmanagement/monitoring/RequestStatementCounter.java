@@ -0,0 +1,76 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.aurionpro.studentmanagement.exception.StatementBudgetExceededException;
+
+/**
+ * Counts the SQL statements Hibernate prepares while handling a web request.
+ * <p>
+ * Registered as Hibernate's {@link StatementInspector}, so it sees every statement before it is
+ * prepared, including those of lazy loads. Counting is enabled per thread between {@link #start}
+ * and {@link #stop()}, which {@link StatementMetricsInterceptor} calls around each request; every
+ * request runs on its own thread, also with virtual threads. Statements prepared on other threads,
+ * such as those of export jobs and streamed downloads, are not counted.
+ * <p>
+ * With {@code app.monitoring.statement-budget.fail-on-exceed} enabled, every statement beyond the
+ * budget of the request fails with a {@link StatementBudgetExceededException}.
+ */
+@Component
+public class RequestStatementCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    private final boolean failOnExceed;
+
+    public RequestStatementCounter(@Value("${app.monitoring.statement-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    /**
+     * Starts counting the statements prepared by the current thread, from zero.
+     *
+     * @param handler The controller method handling the request.
+     * @param budget  The maximum number of statements the request may issue.
+     */
+    public void start(String handler, int budget) {
+        CURRENT.set(new RequestStatements(handler, budget));
+    }
+
+    /**
+     * Stops counting for the current thread.
+     *
+     * @return The statements prepared since {@link #start}, or null if counting was not started.
+     */
+    public RequestStatements stop() {
+        RequestStatements statements = CURRENT.get();
+        CURRENT.remove();
+        return statements;
+    }
+
+    /**
+     * Returns the statements prepared by the current thread so far.
+     *
+     * @return The statements of the current request, or null if counting was not started.
+     */
+    public RequestStatements current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements statements = CURRENT.get();
+        if (statements != null) {
+            statements.record(sql);
+            if (failOnExceed && statements.isOverBudget()) {
+                throw new StatementBudgetExceededException(statements.getHandler() + " exceeded its budget of "
+                        + statements.getBudget() + " SQL statements. Most repeated: " + statements.describeMostRepeated());
+            }
+        }
+        return sql;
+    }
+}
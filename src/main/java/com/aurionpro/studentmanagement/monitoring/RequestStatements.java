@@ -0,0 +1,65 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The SQL statements issued while handling one request, counted against the budget of the
+ * handling controller method.
+ */
+public final class RequestStatements {
+
+    private final String handler;
+    private final int budget;
+    private long count;
+
+    /** How often each distinct statement was issued; only tracked for bounded budgets. */
+    private final Map<String, Integer> repetitions;
+
+    RequestStatements(String handler, int budget) {
+        this.handler = handler;
+        this.budget = budget;
+        this.repetitions = budget == StatementBudget.UNBOUNDED ? null : new HashMap<>();
+    }
+
+    void record(String sql) {
+        count++;
+        if (repetitions != null) {
+            repetitions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns the controller method handling the request, such as {@code StudentController.getAllStudents}.
+     */
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isOverBudget() {
+        return count > budget;
+    }
+
+    /**
+     * Describes the statement issued most often, which is the likely culprit of an exceeded budget.
+     *
+     * @return The statement and its number of executions, or an empty string if none were tracked.
+     */
+    public String describeMostRepeated() {
+        if (repetitions == null || repetitions.isEmpty()) {
+            return "";
+        }
+        Map.Entry<String, Integer> mostRepeated = repetitions.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElseThrow();
+        return mostRepeated.getValue() + "x " + mostRepeated.getKey();
+    }
+}
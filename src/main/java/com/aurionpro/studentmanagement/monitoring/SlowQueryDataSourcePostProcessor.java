@@ -0,0 +1,50 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application's {@link DataSource} in a proxy that reports slow statements to the
+ * {@link SlowQueryLogger}. It replaces printing every statement with {@code spring.jpa.show-sql},
+ * which is too expensive outside of development. Disabled with
+ * {@code app.monitoring.slow-query.enabled=false}.
+ */
+@Component
+@Slf4j
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final long thresholdMillis;
+    private final double samplingRate;
+    private final ObjectProvider<RequestStatementCounter> statementCounter;
+
+    public SlowQueryDataSourcePostProcessor(@Value("${app.monitoring.slow-query.enabled:true}") boolean enabled,
+            @Value("${app.monitoring.slow-query.threshold-ms:500}") long thresholdMillis,
+            @Value("${app.monitoring.slow-query.sampling-rate:1.0}") double samplingRate,
+            ObjectProvider<RequestStatementCounter> statementCounter) {
+        this.enabled = enabled;
+        this.thresholdMillis = thresholdMillis;
+        this.samplingRate = samplingRate;
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        log.info("Logging SQL statements slower than {} ms, sampling rate {}.", thresholdMillis, samplingRate);
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new SlowQueryLogger(thresholdMillis, samplingRate, statementCounter))
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Logs SQL statements that take longer than a threshold, with their duration, number of bind
+ * parameters and the controller method of the request that issued them. Statements issued outside
+ * of a request, such as those of export jobs, are attributed to their thread instead.
+ * <p>
+ * Only a sample of the slow statements is logged, as given by the sampling rate between 0 and 1.
+ * Fast statements only cost a comparison.
+ */
+@Slf4j
+public class SlowQueryLogger implements QueryExecutionListener {
+
+    /** Longer statements, such as those with large IN lists, are truncated in the log. */
+    private static final int MAX_LOGGED_SQL_LENGTH = 2_000;
+
+    private final long thresholdMillis;
+    private final double samplingRate;
+    private final ObjectProvider<RequestStatementCounter> statementCounter;
+
+    public SlowQueryLogger(long thresholdMillis, double samplingRate, ObjectProvider<RequestStatementCounter> statementCounter) {
+        this.thresholdMillis = thresholdMillis;
+        this.samplingRate = samplingRate;
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Only completed statements are of interest
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis || !isSampled()) {
+            return;
+        }
+        int bindCount = queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .mapToInt(List::size)
+                .sum();
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (sql.length() > MAX_LOGGED_SQL_LENGTH) {
+            sql = sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+        }
+        log.warn("Slow SQL statement took {} ms{} with {} bind parameters in {}{}: {}",
+                execInfo.getElapsedTime(), execInfo.isBatch() ? " as a batch of " + execInfo.getBatchSize() : "",
+                bindCount, origin(), execInfo.isSuccess() ? "" : " and failed", sql);
+    }
+
+    private boolean isSampled() {
+        return samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    /**
+     * Returns the controller method of the current request, or the current thread outside of requests.
+     */
+    private String origin() {
+        RequestStatementCounter counter = statementCounter.getIfAvailable();
+        RequestStatements statements = counter == null ? null : counter.current();
+        return statements != null ? statements.getHandler() : "thread " + Thread.currentThread().getName();
+    }
+}
@@ -0,0 +1,33 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the maximum number of SQL statements a controller method may issue per request.
+ * On a controller class, it applies to every method not annotated itself. Methods without a
+ * declared budget get {@code app.monitoring.statement-budget.default}.
+ * <p>
+ * A request exceeding its budget is logged together with its most repeated statement, the usual
+ * sign of an N+1 query pattern, and fails when {@code app.monitoring.statement-budget.fail-on-exceed}
+ * is enabled.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StatementBudget {
+
+    /**
+     * A budget for endpoints whose statement count grows with their input by design, such as bulk
+     * updates and exports, which issue a statement per chunk of rows.
+     */
+    int UNBOUNDED = Integer.MAX_VALUE;
+
+    /**
+     * The maximum number of statements per request.
+     */
+    int value();
+}
@@ -0,0 +1,100 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements of each request handled by a controller method against its
+ * {@link StatementBudget}. The count is recorded as the {@value #METRIC_NAME} distribution, tagged
+ * with the handling controller method; requests over budget are logged with their most repeated
+ * statement and counted as {@value #OVER_BUDGET_METRIC_NAME}.
+ */
+@Component
+@Slf4j
+public class StatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC_NAME = "app.http.statements";
+    static final String OVER_BUDGET_METRIC_NAME = "app.http.statements.over-budget";
+
+    private final RequestStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+
+    public StatementMetricsInterceptor(RequestStatementCounter statementCounter, MeterRegistry meterRegistry,
+            @Value("${app.monitoring.statement-budget.default:20}") int defaultBudget) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The dispatch completing an asynchronous request, e.g. a streamed download, runs no handler code
+        if (handler instanceof HandlerMethod handlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            statementCounter.start(handlerName(handlerMethod), budgetOf(handlerMethod));
+        }
+        return true;
+    }
+
+    /**
+     * Stops counting on the request thread once the handler has started asynchronous processing.
+     * The statements of the asynchronous part, such as those of a streamed download, run on another
+     * thread and are not counted.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStatements statements = statementCounter.stop();
+        if (statements == null) {
+            return;
+        }
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements prepared while handling a request")
+                .tag("handler", statements.getHandler())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements.getCount());
+        if (statements.isOverBudget()) {
+            log.warn("{} {} handled by {} issued {} SQL statements, exceeding its budget of {}. Most repeated: {}",
+                    request.getMethod(), request.getRequestURI(), statements.getHandler(), statements.getCount(),
+                    statements.getBudget(), statements.describeMostRepeated());
+            Counter.builder(OVER_BUDGET_METRIC_NAME)
+                    .description("Requests that issued more SQL statements than their budget")
+                    .tag("handler", statements.getHandler())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * Returns the declared budget of the controller method, or of its class, or the default budget.
+     */
+    private int budgetOf(HandlerMethod handlerMethod) {
+        StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+        if (budget == null) {
+            budget = handlerMethod.getBeanType().getAnnotation(StatementBudget.class);
+        }
+        return budget == null ? defaultBudget : budget.value();
+    }
+
+    /**
+     * Returns a short name for the controller method, such as {@code StudentController.getAllStudents}.
+     */
+    static String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
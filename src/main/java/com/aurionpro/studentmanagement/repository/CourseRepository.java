@@ -1,9 +1,15 @@
 package com.aurionpro.studentmanagement.repository;
 
+import com.aurionpro.studentmanagement.dto.response.CourseDto;
 import com.aurionpro.studentmanagement.entity.Course;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -42,4 +48,58 @@ public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecif
      */
     @Query("SELECT c FROM Course c JOIN FETCH c.department WHERE c.id IN :courseIds")
     List<Course> findByIdInWithDepartment(@Param("courseIds") List<Long> courseIds);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves all active courses, optionally restricted to one department, projected directly into
+     * {@link CourseDto} objects. No managed entities are created, so the persistence context holds
+     * no snapshots to dirty-check.
+     *
+     * @param departmentId The ID of the department to filter by, or null for all departments.
+     * @return A list of active courses ordered by name.
+     */
+    @Query("SELECT new com.aurionpro.studentmanagement.dto.response.CourseDto(c.id, c.name, c.description, c.isActive) "
+            + "FROM Course c WHERE c.isActive = true AND (:departmentId IS NULL OR c.department.id = :departmentId) ORDER BY c.name")
+    List<CourseDto> findActiveCourseDtos(@Param("departmentId") Long departmentId);
+
+    /**
+     * Retrieves a page of active courses, optionally restricted to one department, projected directly
+     * into {@link CourseDto} objects.
+     *
+     * @param departmentId The ID of the department to filter by, or null for all departments.
+     * @param pageable     The pagination and sorting information.
+     * @return A page of active courses.
+     */
+    @Query(value = "SELECT new com.aurionpro.studentmanagement.dto.response.CourseDto(c.id, c.name, c.description, c.isActive) "
+            + "FROM Course c WHERE c.isActive = true AND (:departmentId IS NULL OR c.department.id = :departmentId)",
+            countQuery = "SELECT count(c) FROM Course c WHERE c.isActive = true AND (:departmentId IS NULL OR c.department.id = :departmentId)")
+    Page<CourseDto> findActiveCourseDtos(@Param("departmentId") Long departmentId, Pageable pageable);
+
+    /**
+     * Deletes the given courses of a department with a single bulk statement, instead of
+     * one DELETE per course. Pending changes are flushed first, so they are not lost, but the
+     * persistence context is not cleared: callers must not use the deleted entities afterwards.
+     *
+     * @param departmentId The ID of the department owning the courses.
+     * @param courseIds    The IDs of the courses to delete. Courses of other departments are left untouched.
+     * @return The number of deleted courses.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Course c WHERE c.department.id = :departmentId AND c.id IN :courseIds")
+    int deleteByDepartmentIdAndIdIn(@Param("departmentId") Long departmentId, @Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * Sets the active status of all courses of a department with a single bulk UPDATE.
+     * Pending changes are flushed first, and the persistence context is cleared afterwards,
+     * so no stale course entities remain managed. The bulk statement bypasses JPA Auditing,
+     * so it records the last update timestamp itself.
+     *
+     * @param departmentId The ID of the department owning the courses.
+     * @param isActive     The new active status.
+     * @param updatedAt    The timestamp to record as the last update.
+     * @return The number of updated courses.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.isActive = :isActive, c.updatedAt = :updatedAt WHERE c.department.id = :departmentId")
+    int updateActiveStatusByDepartmentId(@Param("departmentId") Long departmentId, @Param("isActive") boolean isActive,
+            @Param("updatedAt") Instant updatedAt);
+}
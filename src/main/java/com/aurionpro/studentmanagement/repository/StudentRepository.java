@@ -1,19 +1,30 @@
 package com.aurionpro.studentmanagement.repository;
 
 import com.aurionpro.studentmanagement.entity.Student;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Spring Data JPA repository for {@link Student} entities.
  * It extends {@link JpaRepository} for standard CRUD operations and
  * {@link JpaSpecificationExecutor} to enable dynamic, criteria-based queries.
+ * Cursor-based streaming is provided by the {@link StudentRepositoryCustom} fragment.
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student> {
+public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student>, StudentRepositoryCustom {
 
     /**
      * Checks if a student exists with the given business ID (studentId).
@@ -31,6 +42,58 @@ public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpec
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Returns which of the given business IDs are already taken by existing students.
+     * Used to validate a whole import batch with one query instead of one lookup per row.
+     *
+     * @param studentIds The business IDs to check for.
+     * @return The subset of the given business IDs that already exist.
+     */
+    @Query("SELECT s.studentId FROM Student s WHERE s.studentId IN :studentIds")
+    List<String> findExistingStudentIds(@Param("studentIds") Collection<String> studentIds);
+
+    /**
+     * Returns which of the given email addresses are already used by existing students.
+     * Used to validate a whole import batch with one query instead of one lookup per row.
+     *
+     * @param emails The email addresses to check for.
+     * @return The subset of the given email addresses that already exist.
+     */
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Sets the active status of the students with the given business IDs in a single bulk UPDATE,
+     * touching only students whose status actually changes. The last-modified timestamp is set explicitly,
+     * as bulk statements bypass JPA Auditing.
+     *
+     * @param studentIds The business IDs of the students to update.
+     * @param isActive   The new active status.
+     * @param updatedAt  The timestamp to record as the last update.
+     * @return The number of students whose status changed.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.isActive = :isActive, s.updatedAt = :updatedAt "
+            + "WHERE s.studentId IN :studentIds AND s.isActive <> :isActive")
+    int updateActiveStatusByStudentIdIn(@Param("studentIds") Collection<String> studentIds,
+            @Param("isActive") boolean isActive, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Sets the active status of the students with the given database IDs in a single bulk UPDATE,
+     * touching only students whose status actually changes. The last-modified timestamp is set explicitly,
+     * as bulk statements bypass JPA Auditing.
+     *
+     * @param ids       The database IDs of the students to update.
+     * @param isActive  The new active status.
+     * @param updatedAt The timestamp to record as the last update.
+     * @return The number of students whose status changed.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.isActive = :isActive, s.updatedAt = :updatedAt "
+            + "WHERE s.id IN :ids AND s.isActive <> :isActive")
+    int updateActiveStatusByIdIn(@Param("ids") Collection<Long> ids,
+            @Param("isActive") boolean isActive, @Param("updatedAt") Instant updatedAt);
+
     /**
      * Retrieves a student by their unique business ID (studentId).
      *
@@ -38,4 +101,18 @@ public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpec
      * @return An {@link Optional} containing the found {@link Student}, or an empty Optional if no student is found.
      */
     Optional<Student> findByStudentId(String studentId);
+
+    /**
+     * Retrieves a page of students matching the given specification, fetching each student's
+     * department in the same query. The enrolled courses are initialized in batches
+     * (see {@link Student#getCourses()}), so the number of queries per page stays constant
+     * regardless of the page size.
+     *
+     * @param spec     The specification used to filter students.
+     * @param pageable The pagination and sorting information.
+     * @return A {@link Page} of students with their departments pre-loaded.
+     */
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Page<Student> findAll(Specification<Student> spec, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.aurionpro.studentmanagement.repository;
+
+import com.aurionpro.studentmanagement.entity.Student;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for {@link Student} queries that cannot be expressed through
+ * the derived query methods of Spring Data JPA.
+ */
+public interface StudentRepositoryCustom {
+
+    /**
+     * Streams all students matching the given specification using a database cursor,
+     * instead of materializing the whole result into a list.
+     * <p>
+     * Rows are fetched from the database in chunks and the persistence context is cleared
+     * periodically, so previously consumed students become detached and can be garbage collected.
+     * Consumers must therefore finish working with a student before requesting the next one.
+     * Each student's department is fetched in the same query and enrolled courses are
+     * initialized in batches, so streaming does not issue a query per student.
+     * The returned stream must be consumed within an open transaction and closed afterwards,
+     * ideally with a try-with-resources block. The query is cancelled by the database if it runs
+     * longer than {@code app.export.query-timeout-seconds}.
+     *
+     * @param spec The specification used to filter students.
+     * @param sort The ordering of the streamed students.
+     * @return A lazily populated {@link Stream} of matching {@link Student} entities.
+     */
+    Stream<Student> streamAll(Specification<Student> spec, Sort sort);
+
+    /**
+     * Returns an action cancelling the JDBC statement most recently executed by the persistence
+     * context of the current transaction, such as the cursor of {@link #streamAll}. Unlike the
+     * persistence context itself, the action may be run from another thread, which makes it possible
+     * to stop a statement the current thread is blocked on. The cancelled statement fails in the
+     * thread executing it. Must be called within an open transaction.
+     *
+     * @return The action cancelling the statement.
+     */
+    Runnable statementCanceller();
+
+    /**
+     * Returns a token that changes whenever the data rendered by student exports changes: the
+     * latest update of any student, and the latest update and number of departments and courses.
+     * The numbers catch deleted departments and courses; students are only ever deactivated,
+     * which updates them. Updates that bypass the audited {@code updatedAt} columns are not seen.
+     *
+     * @return The data version, an opaque string.
+     */
+    String findExportDataVersion();
+
+    /**
+     * Retrieves the first {@code size} students matching the given specification without
+     * issuing a count query. Combined with a specification that seeks past the last row of the
+     * previous slice, this provides keyset pagination whose cost does not grow with depth.
+     * Each student's department is fetched in the same query.
+     *
+     * @param spec The specification used to filter students, including any seek predicate.
+     * @param sort The ordering of the students. It must be unique, e.g. end with the ID.
+     * @param size The maximum number of students to return.
+     * @return A {@link Slice} of students, indicating whether more students follow.
+     */
+    Slice<Student> findSlice(Specification<Student> spec, Sort sort, int size);
+
+    /**
+     * Retrieves, in ascending order, the database IDs of up to {@code limit} students matching the
+     * given specification whose ID is greater than {@code afterId}. Repeated calls passing the last
+     * returned ID walk through all matching students in chunks, without loading any entities.
+     *
+     * @param spec    The specification used to filter students.
+     * @param afterId The ID after which to start, or null to start from the first student.
+     * @param limit   The maximum number of IDs to return.
+     * @return The IDs of the matching students.
+     */
+    List<Long> findIdsAfter(Specification<Student> spec, Long afterId, int limit);
+
+    /**
+     * Inserts a large number of new students, flushing and clearing the persistence context after
+     * every chunk so that memory use stays flat and Hibernate can send the inserts in JDBC batches.
+     * <p>
+     * Clearing detaches every entity loaded earlier in the current transaction, so callers must not
+     * rely on managed state afterwards. Departments and courses referenced by the new students only
+     * contribute their IDs and may therefore be detached.
+     * Must be called within an open transaction.
+     *
+     * @param students The new, not yet persisted, students to insert.
+     */
+    void insertAll(List<Student> students);
+}
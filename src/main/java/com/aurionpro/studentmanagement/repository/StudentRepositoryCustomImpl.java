@@ -0,0 +1,193 @@
+package com.aurionpro.studentmanagement.repository;
+
+import com.aurionpro.studentmanagement.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of {@link StudentRepositoryCustom}, picked up by Spring Data through the
+ * {@code Impl} naming convention and merged into {@link StudentRepository}.
+ */
+public class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    /**
+     * Number of rows the JDBC driver fetches per round trip while streaming.
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Number of students read ahead from the cursor and handed out before the persistence
+     * context is cleared. Matches the batch size of {@code Student.courses}.
+     */
+    static final int STREAM_CHUNK_SIZE = 100;
+
+    /**
+     * Number of students persisted before the persistence context is flushed and cleared during
+     * {@link #insertAll(List)}. A multiple of {@code hibernate.jdbc.batch_size}, so every flush
+     * sends full JDBC batches.
+     */
+    static final int INSERT_CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.export.query-timeout-seconds:300}")
+    private int streamQueryTimeoutSeconds;
+
+    @Override
+    public Stream<Student> streamAll(Specification<Student> spec, Sort sort) {
+        Stream<Student> results = entityManager.createQuery(createQuery(spec, sort))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_TIMEOUT, streamQueryTimeoutSeconds)
+                .getResultStream();
+        return readInChunks(results);
+    }
+
+    @Override
+    public Runnable statementCanceller() {
+        JdbcCoordinator jdbcCoordinator = entityManager.unwrap(SharedSessionContractImplementor.class).getJdbcCoordinator();
+        return jdbcCoordinator::cancelLastQuery;
+    }
+
+    @Override
+    public String findExportDataVersion() {
+        Instant studentsUpdatedAt = entityManager.createQuery("SELECT MAX(s.updatedAt) FROM Student s", Instant.class)
+                .getSingleResult();
+        Object[] departments = entityManager.createQuery("SELECT MAX(d.updatedAt), COUNT(d) FROM Department d", Object[].class)
+                .getSingleResult();
+        Object[] courses = entityManager.createQuery("SELECT MAX(c.updatedAt), COUNT(c) FROM Course c", Object[].class)
+                .getSingleResult();
+        return studentsUpdatedAt + "|" + departments[0] + "|" + departments[1] + "|" + courses[0] + "|" + courses[1];
+    }
+
+    @Override
+    public Slice<Student> findSlice(Specification<Student> spec, Sort sort, int size) {
+        // Fetch one extra row to find out whether another slice follows, instead of counting
+        List<Student> results = entityManager.createQuery(createQuery(spec, sort))
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = results.size() > size;
+        List<Student> content = hasNext ? new ArrayList<>(results.subList(0, size)) : results;
+        return new SliceImpl<>(content, PageRequest.of(0, size, sort), hasNext);
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Specification<Student> spec, Long afterId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Student> root = query.from(Student.class);
+        query.select(root.get("id"));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (afterId != null) {
+            predicates.add(criteriaBuilder.greaterThan(root.get("id"), afterId));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public void insertAll(List<Student> students) {
+        for (int i = 0; i < students.size(); i++) {
+            entityManager.persist(students.get(i));
+            if ((i + 1) % INSERT_CHUNK_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Builds a criteria query selecting the students matching the specification in the given order,
+     * fetching each student's department in the same query.
+     */
+    private CriteriaQuery<Student> createQuery(Specification<Student> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Student> query = criteriaBuilder.createQuery(Student.class);
+        Root<Student> root = query.from(Student.class);
+        root.fetch("department");
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return query;
+    }
+
+    /**
+     * Wraps a result stream so that students are read from the cursor in chunks of
+     * {@link #STREAM_CHUNK_SIZE}. A whole chunk is read before any of it is handed out, which lets
+     * Hibernate initialize the course collections of the chunk with one batched query. The
+     * persistence context is cleared before the next chunk is read, i.e. only once the consumer
+     * is done with every student of the previous chunk.
+     */
+    private Stream<Student> readInChunks(Stream<Student> results) {
+        Iterator<Student> source = results.iterator();
+        Iterator<Student> chunked = new Iterator<>() {
+            private final List<Student> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                if (position < chunk.size()) {
+                    return true;
+                }
+                if (!chunk.isEmpty()) {
+                    chunk.clear();
+                    position = 0;
+                    entityManager.clear();
+                }
+                while (chunk.size() < STREAM_CHUNK_SIZE && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public Student next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.get(position++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunked, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(results::close);
+    }
+}
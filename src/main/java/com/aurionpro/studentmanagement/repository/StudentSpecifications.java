@@ -0,0 +1,87 @@
+package com.aurionpro.studentmanagement.repository;
+
+import com.aurionpro.studentmanagement.entity.Student;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory for the {@link Specification}s used to filter {@link Student} queries.
+ * The student listing, the exports and the bulk status update all select students with the same
+ * criteria, so they share these specifications.
+ */
+public final class StudentSpecifications {
+
+    /**
+     * The fields matched by the free-text search filter, each backed by a trigram index on PostgreSQL.
+     */
+    private static final List<String> SEARCHABLE_FIELDS = List.of("studentId", "firstName", "lastName", "email");
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private StudentSpecifications() {
+    }
+
+    /**
+     * Creates a specification matching students by a free-text search term and their active status.
+     *
+     * @param filter   A term matched case-insensitively as a substring of the student ID, first name,
+     *                 last name, or email. Can be null or blank to match all students.
+     * @param isActive The active status to match. Can be null to match both active and inactive students.
+     * @return The specification combining both criteria.
+     */
+    public static Specification<Student> matching(String filter, Boolean isActive) {
+        return matching(filter, isActive, null);
+    }
+
+    /**
+     * Creates a specification matching students by a free-text search term, their active status
+     * and their department.
+     *
+     * @param filter       A term matched case-insensitively as a substring of the student ID, first name,
+     *                     last name, or email. Can be null or blank to match all students.
+     * @param isActive     The active status to match. Can be null to match both active and inactive students.
+     * @param departmentId The database ID of the department to match. Can be null to match students of all departments.
+     * @return The specification combining all criteria.
+     */
+    public static Specification<Student> matching(String filter, Boolean isActive, Long departmentId) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> mainPredicates = new ArrayList<>();
+            if (departmentId != null) {
+                // compares the foreign key column, without joining the departments table
+                mainPredicates.add(criteriaBuilder.equal(root.get("department").get("id"), departmentId));
+            }
+            if (isActive != null) {
+                mainPredicates.add(criteriaBuilder.equal(root.get("isActive"), isActive));
+            }
+            if (StringUtils.hasText(filter)) {
+                // lower(column) LIKE '%term%' matches the trigram indexes in db/postgres/optional/01-student-search-indexes.sql
+                String pattern = "%" + escapeLikeWildcards(filter.trim().toLowerCase()) + "%";
+                List<Predicate> searchPredicates = new ArrayList<>();
+                for (String field : SEARCHABLE_FIELDS) {
+                    searchPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get(field)), pattern, LIKE_ESCAPE));
+                }
+                mainPredicates.add(criteriaBuilder.or(searchPredicates.toArray(new Predicate[0])));
+            }
+            return criteriaBuilder.and(mainPredicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Escapes the LIKE wildcards in a user-supplied search term, so that characters such as
+     * {@code _} in an email address are matched literally.
+     */
+    private static String escapeLikeWildcards(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -1,6 +1,8 @@
 package com.aurionpro.studentmanagement.service;
 
 import com.aurionpro.studentmanagement.dto.response.CourseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -18,4 +20,14 @@ public interface CourseService {
      * @return A list of {@link CourseDto} objects.
      */
     List<CourseDto> getAllCourses(Long departmentId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves a page of active courses, with an option to filter by department.
+     *
+     * @param departmentId An optional ID of a department to filter the courses.
+     *                     If null, active courses of all departments are returned.
+     * @param pageable     Pagination and sorting information.
+     * @return A Page of {@link CourseDto} objects.
+     */
+    Page<CourseDto> getCoursesPage(Long departmentId, Pageable pageable);
+}
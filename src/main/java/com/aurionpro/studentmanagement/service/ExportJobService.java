@@ -0,0 +1,42 @@
+package com.aurionpro.studentmanagement.service;
+
+import com.aurionpro.studentmanagement.dto.request.CreateExportJobRequestDto;
+import com.aurionpro.studentmanagement.dto.response.ExportJobDto;
+import com.aurionpro.studentmanagement.export.ExportJobResult;
+
+/**
+ * Service interface for generating student exports asynchronously.
+ * Jobs are executed on a bounded background pool, their files are kept on local disk
+ * and both are removed automatically once the job expires.
+ */
+public interface ExportJobService {
+
+    /**
+     * Submits a new export job for background execution.
+     *
+     * @param requestDto The DTO containing the export format and filter criteria.
+     * @return An {@link ExportJobDto} describing the queued job, including its ID.
+     * @throws com.aurionpro.studentmanagement.exception.CapacityExceededException if too many jobs are already queued or running.
+     */
+    ExportJobDto submitJob(CreateExportJobRequestDto requestDto);
+
+    /**
+     * Retrieves the current status and progress of an export job.
+     *
+     * @param jobId The unique ID of the job.
+     * @return An {@link ExportJobDto} describing the job.
+     * @throws com.aurionpro.studentmanagement.exception.ResourceNotFoundException if no job exists with the given ID, or it has expired.
+     */
+    ExportJobDto getJob(String jobId);
+
+    /**
+     * Retrieves the generated file of a completed export job.
+     *
+     * @param jobId The unique ID of the job.
+     * @return An {@link ExportJobResult} reading the generated file. Its content stream must be closed,
+     *         as the file is not removed while it is open.
+     * @throws com.aurionpro.studentmanagement.exception.ResourceNotFoundException if no job exists with the given ID, or it has expired.
+     * @throws com.aurionpro.studentmanagement.exception.BusinessRuleException if the job has not completed successfully.
+     */
+    ExportJobResult getJobResult(String jobId);
+}
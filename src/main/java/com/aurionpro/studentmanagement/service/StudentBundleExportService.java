@@ -0,0 +1,33 @@
+package com.aurionpro.studentmanagement.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.aurionpro.studentmanagement.export.ExportCancellation;
+import com.aurionpro.studentmanagement.export.ExportFormat;
+
+import net.sf.jasperreports.engine.JRException;
+
+/**
+ * Service interface for exporting the students of every department as a single ZIP archive,
+ * with one report per department.
+ */
+public interface StudentBundleExportService {
+
+    /**
+     * Writes a ZIP archive holding one report per department, each listing the department's students
+     * matching the filter criteria. Departments without any matching student are left out.
+     * The reports are generated concurrently and added to the archive in the order they complete.
+     *
+     * @param format       The format of the reports in the archive.
+     * @param filter       A string for searching across multiple fields. Can be null.
+     * @param isActive     A boolean to filter by active status. Can be null.
+     * @param outputStream The stream to which the ZIP archive will be written. It is not closed by this method.
+     * @param cancellation Stops the reports still being generated, e.g. once the client has disconnected.
+     * @throws IOException if an I/O error occurs.
+     * @throws JRException if a JasperReports error occurs.
+     * @throws com.aurionpro.studentmanagement.exception.ExportAbortedException if the export was cancelled.
+     */
+    void exportDepartmentBundle(ExportFormat format, String filter, Boolean isActive, OutputStream outputStream,
+            ExportCancellation cancellation) throws IOException, JRException;
+}
@@ -1,11 +1,11 @@
 package com.aurionpro.studentmanagement.service;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.stream.Stream;
 
 import com.aurionpro.studentmanagement.entity.Student;
 
-import jakarta.servlet.http.HttpServletResponse;
 import net.sf.jasperreports.engine.JRException;
 
 /**
@@ -13,31 +13,67 @@ import net.sf.jasperreports.engine.JRException;
  */
 public interface StudentExportService {
 
+	/** Passed as the expected number of rows of an export when it is not known in advance. */
+	long UNKNOWN_ROW_COUNT = -1;
+
+	/**
+	 * Exports a stream of student entities to an Excel (XLSX) file.
+	 * The stream is consumed incrementally and is not closed by this method.
+	 *
+	 * @param students The stream of students to be exported.
+	 * @param outputStream The stream to which the generated Excel file will be written. It is not closed by this method.
+	 * @throws IOException if an error occurs while writing to the output stream.
+	 */
+	void exportToExcel(Stream<Student> students, OutputStream outputStream) throws IOException;
+
 	/**
-	 * Exports a list of student entities to an Excel (XLSX) file.
+	 * Exports a stream of student entities to a CSV file.
+	 * The stream is consumed incrementally and is not closed by this method.
 	 *
-	 * @param students The list of students to be exported.
-	 * @param response The HttpServletResponse to which the generated Excel file will be written.
-	 * @throws IOException if an error occurs while writing to the response output stream.
+	 * @param students The stream of students to be exported.
+	 * @param outputStream The stream to which the generated UTF-8 encoded CSV file will be written. It is not closed by this method.
+	 * @throws IOException if an error occurs while writing to the output stream.
 	 */
-	void exportToExcel(List<Student> students, HttpServletResponse response) throws IOException;
+	default void exportToCsv(Stream<Student> students, OutputStream outputStream) throws IOException {
+		exportToCsv(students, outputStream, false);
+	}
 
 	/**
-	 * Exports a list of student entities to a CSV file.
+	 * Exports a stream of student entities to a CSV file, optionally gzip-compressed.
+	 * The stream is consumed incrementally and is not closed by this method.
 	 *
-	 * @param students The list of students to be exported.
-	 * @param response The HttpServletResponse to which the generated CSV file will be written.
-	 * @throws IOException if an error occurs while writing to the response writer.
+	 * @param students The stream of students to be exported.
+	 * @param outputStream The stream to which the generated UTF-8 encoded CSV file will be written. It is not closed by this method.
+	 * @param gzip Whether to gzip-compress the file as it is written.
+	 * @throws IOException if an error occurs while writing to the output stream.
 	 */
-	void exportToCsv(List<Student> students, HttpServletResponse response) throws IOException;
+	void exportToCsv(Stream<Student> students, OutputStream outputStream, boolean gzip) throws IOException;
 	
 	/**
-	 * Exports a list of student entities to a PDF file using JasperReports.
+	 * Exports a stream of student entities to a PDF file using JasperReports.
+	 * The stream is consumed incrementally and is not closed by this method.
+	 * As the number of students is not known, the report is filled as a large report.
+	 *
+	 * @param students The stream of students to be exported.
+	 * @param outputStream The stream to which the generated PDF file will be written. It is not closed by this method.
+	 * @throws IOException if an error occurs while writing to the output stream.
+	 * @throws JRException if an error occurs during JasperReport processing.
+	 */
+	default void exportToPdf(Stream<Student> students, OutputStream outputStream) throws IOException, JRException {
+		exportToPdf(students, UNKNOWN_ROW_COUNT, outputStream);
+	}
+
+	/**
+	 * Exports a stream of student entities to a PDF file using JasperReports.
+	 * The stream is consumed incrementally and is not closed by this method.
+	 * Large reports are filled with their pages swapped out to disk rather than held in memory.
 	 *
-	 * @param students The list of students to be exported.
-	 * @param response The HttpServletResponse to which the generated PDF file will be written.
-	 * @throws IOException if an error occurs while writing to the response output stream.
+	 * @param students The stream of students to be exported.
+	 * @param expectedRows The number of students in the stream, used to choose how the report is filled,
+	 *                     or {@link #UNKNOWN_ROW_COUNT}.
+	 * @param outputStream The stream to which the generated PDF file will be written. It is not closed by this method.
+	 * @throws IOException if an error occurs while writing to the output stream.
 	 * @throws JRException if an error occurs during JasperReport processing.
 	 */
-	void exportToPdf(List<Student> students, HttpServletResponse response) throws IOException, JRException;
-}
\ No newline at end of file
+	void exportToPdf(Stream<Student> students, long expectedRows, OutputStream outputStream) throws IOException, JRException;
+}
@@ -0,0 +1,54 @@
+package com.aurionpro.studentmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.aurionpro.studentmanagement.dto.request.CreateStudentRequestDto;
+
+/**
+ * Service interface defining the contract for reading student records from uploaded files,
+ * so they can be passed to {@link StudentService#importStudents(List)}.
+ * <p>
+ * The first row of a file is a header naming the columns {@code studentId}, {@code firstName},
+ * {@code lastName}, {@code email}, {@code departmentId} and, optionally, {@code courseIds}.
+ * Column names are matched case-insensitively and may appear in any order. Course IDs are
+ * separated by semicolons or commas within their cell.
+ */
+public interface StudentImportService {
+
+	/**
+	 * Reads student records from a CSV or Excel (XLSX) file, choosing the format by the file extension.
+	 *
+	 * @param fileName    The original name of the uploaded file.
+	 * @param inputStream The content of the file. It is not closed by this method.
+	 * @return The student records of the file, in the order of its rows.
+	 * @throws IOException if the file cannot be read.
+	 * @throws com.aurionpro.studentmanagement.exception.BusinessRuleException if the file type is not supported.
+	 * @throws com.aurionpro.studentmanagement.exception.ValidationException if the header is missing required
+	 *         columns or a cell cannot be converted to the type of its column.
+	 */
+	List<CreateStudentRequestDto> readStudents(String fileName, InputStream inputStream) throws IOException;
+
+	/**
+	 * Reads student records from a UTF-8 encoded CSV file following RFC 4180.
+	 *
+	 * @param inputStream The content of the file. It is not closed by this method.
+	 * @return The student records of the file, in the order of its rows.
+	 * @throws IOException if the file cannot be read.
+	 * @throws com.aurionpro.studentmanagement.exception.ValidationException if the header is missing required
+	 *         columns or a cell cannot be converted to the type of its column.
+	 */
+	List<CreateStudentRequestDto> readCsv(InputStream inputStream) throws IOException;
+
+	/**
+	 * Reads student records from the first sheet of an Excel (XLSX) file.
+	 *
+	 * @param inputStream The content of the file. It is not closed by this method.
+	 * @return The student records of the file, in the order of its rows.
+	 * @throws IOException if the file cannot be read.
+	 * @throws com.aurionpro.studentmanagement.exception.ValidationException if the header is missing required
+	 *         columns or a cell cannot be converted to the type of its column.
+	 */
+	List<CreateStudentRequestDto> readExcel(InputStream inputStream) throws IOException;
+}
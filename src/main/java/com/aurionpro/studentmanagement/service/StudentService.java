@@ -1,15 +1,24 @@
 package com.aurionpro.studentmanagement.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.LongConsumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.aurionpro.studentmanagement.dto.request.BulkStudentStatusRequestDto;
 import com.aurionpro.studentmanagement.dto.request.CreateStudentRequestDto;
 import com.aurionpro.studentmanagement.dto.request.UpdateStudentRequestDto;
+import com.aurionpro.studentmanagement.dto.response.BulkImportResultDto;
+import com.aurionpro.studentmanagement.dto.response.BulkStatusUpdateResultDto;
+import com.aurionpro.studentmanagement.dto.response.CursorPageDto;
 import com.aurionpro.studentmanagement.dto.response.StudentResponseDto;
+import com.aurionpro.studentmanagement.export.ExportCancellation;
+import com.aurionpro.studentmanagement.export.ExportFormat;
 
-import jakarta.servlet.http.HttpServletResponse;
 import net.sf.jasperreports.engine.JRException;
 
 /**
@@ -31,6 +40,25 @@ public interface StudentService {
 	 */
 	Page<StudentResponseDto> getAllStudents(String filter, Boolean isActive, Pageable pageable);
 
+	/**
+	 * Retrieves a filtered slice of students using keyset (cursor-based) pagination.
+	 * Instead of skipping rows with an offset and counting the whole result, each slice seeks
+	 * directly past the last student of the previous slice, so the cost of a request does not
+	 * depend on how deep the client has scrolled.
+	 *
+	 * @param filter   A string for searching across multiple fields. Can be null.
+	 * @param isActive A boolean to filter by active status. Can be null.
+	 * @param cursor   The {@code nextCursor} token of the previous slice, or null for the first slice.
+	 * @param size     The maximum number of students to return.
+	 * @param sortBy   The field to sort by: id, studentId, firstName, lastName, email or createdAt.
+	 * @param sortDir  The direction of the sort.
+	 * @return A {@link CursorPageDto} of {@link StudentResponseDto} objects and the cursor of the next slice.
+	 * @throws com.aurionpro.studentmanagement.exception.BusinessRuleException if the sort field is not supported,
+	 *         or the cursor is malformed or was issued for a different sort order.
+	 */
+	CursorPageDto<StudentResponseDto> getStudentsByCursor(String filter, Boolean isActive, String cursor, int size,
+			String sortBy, Sort.Direction sortDir);
+
 	/**
 	 * Creates a new student record based on the provided data.
 	 *
@@ -41,6 +69,19 @@ public interface StudentService {
 	 */
 	StudentResponseDto addStudent(CreateStudentRequestDto requestDto);
 
+	/**
+	 * Creates new student records for a whole batch, such as a semester's intake.
+	 * Each row is checked against the same rules as {@link #addStudent(CreateStudentRequestDto)},
+	 * but the checks against existing data are made with a few set-based queries for the whole batch,
+	 * and the valid rows are inserted in JDBC batches. Rows that fail validation are skipped and
+	 * reported, while the remaining rows are imported.
+	 *
+	 * @param requestDtos The students to create, in the order they were submitted.
+	 * @return A {@link BulkImportResultDto} summarizing the import and listing the errors of each rejected row.
+	 * @throws com.aurionpro.studentmanagement.exception.BusinessRuleException if the batch exceeds the maximum import size.
+	 */
+	BulkImportResultDto importStudents(List<CreateStudentRequestDto> requestDtos);
+
 	/**
 	 * Updates an existing student's record identified by their business ID.
 	 *
@@ -70,34 +111,91 @@ public interface StudentService {
 	 */
 	StudentResponseDto toggleStudentStatus(String studentId);
 
+	/**
+	 * Sets the active status of many students at once, selected either by their business IDs
+	 * or by the same filter criteria as {@link #getAllStudents(String, Boolean, org.springframework.data.domain.Pageable)}.
+	 * The students are updated with set-based statements in chunks, without loading them.
+	 *
+	 * @param requestDto The status to apply and the selection of students.
+	 * @return A {@link BulkStatusUpdateResultDto} with the number of matched and changed students,
+	 *         and the requested business IDs that do not exist.
+	 * @throws com.aurionpro.studentmanagement.exception.BusinessRuleException if the request selects students
+	 *         both by ID and by filter, or selects no criteria at all.
+	 */
+	BulkStatusUpdateResultDto updateStudentsStatus(BulkStudentStatusRequestDto requestDto);
+
 	/**
 	 * Generates an Excel file containing a list of students based on filter criteria.
 	 *
 	 * @param filter   A string for searching across multiple fields. Can be null.
 	 * @param isActive A boolean to filter by active status. Can be null.
-	 * @param response The HttpServletResponse to which the Excel file will be written.
+	 * @param outputStream The stream to which the Excel file will be written. It is not closed by this method.
+	 * @param cancellation Stops the export early, e.g. once the client has disconnected.
 	 * @throws java.io.IOException if an I/O error occurs.
+	 * @throws com.aurionpro.studentmanagement.exception.ExportAbortedException if the export was cancelled.
 	 */
-	void generateStudentsExcel(String filter, Boolean isActive, HttpServletResponse response) throws IOException;
+	void generateStudentsExcel(String filter, Boolean isActive, OutputStream outputStream, ExportCancellation cancellation) throws IOException;
 
 	/**
 	 * Generates a CSV file containing a list of students based on filter criteria.
 	 *
 	 * @param filter   A string for searching across multiple fields. Can be null.
 	 * @param isActive A boolean to filter by active status. Can be null.
-	 * @param response The HttpServletResponse to which the CSV file will be written.
+	 * @param gzip     Whether to gzip-compress the file as it is written.
+	 * @param outputStream The stream to which the CSV file will be written. It is not closed by this method.
+	 * @param cancellation Stops the export early, e.g. once the client has disconnected.
 	 * @throws java.io.IOException if an I/O error occurs.
+	 * @throws com.aurionpro.studentmanagement.exception.ExportAbortedException if the export was cancelled.
 	 */
-	void generateStudentsCsv(String filter, Boolean isActive, HttpServletResponse response) throws IOException;
+	void generateStudentsCsv(String filter, Boolean isActive, boolean gzip, OutputStream outputStream, ExportCancellation cancellation) throws IOException;
 	
 	/**
 	 * Generates a PDF file containing a list of students based on filter criteria.
 	 *
 	 * @param filter   A string for searching across multiple fields. Can be null.
 	 * @param isActive A boolean to filter by active status. Can be null.
-	 * @param response The HttpServletResponse to which the PDF file will be written.
+	 * @param outputStream The stream to which the PDF file will be written. It is not closed by this method.
+	 * @param cancellation Stops the export early, e.g. once the client has disconnected.
+	 * @throws IOException if an I/O error occurs.
+	 * @throws JRException if a JasperReports error occurs.
+	 * @throws com.aurionpro.studentmanagement.exception.ExportAbortedException if the export was cancelled.
+	 */
+	void generateStudentsPdf(String filter, Boolean isActive, OutputStream outputStream, ExportCancellation cancellation) throws IOException, JRException;
+
+	/**
+	 * Counts the students matching the given filter criteria.
+	 *
+	 * @param filter   A string for searching across multiple fields. Can be null.
+	 * @param isActive A boolean to filter by active status. Can be null.
+	 * @return The number of matching students.
+	 */
+	long countStudents(String filter, Boolean isActive);
+
+	/**
+	 * Returns a token identifying the current state of the data shown in student exports.
+	 * It changes whenever a student, department or course is created, updated or deleted,
+	 * so an export generated for one version can be served again as long as the version is unchanged.
+	 * The token is read with a few aggregate queries, without reading the students themselves.
+	 *
+	 * @return The data version, an opaque string.
+	 */
+	String getExportDataVersion();
+
+	/**
+	 * Exports the students matching the given filter criteria in the requested format.
+	 * Students are streamed from the database and written incrementally.
+	 *
+	 * @param format           The format of the generated file.
+	 * @param filter           A string for searching across multiple fields. Can be null.
+	 * @param isActive         A boolean to filter by active status. Can be null.
+	 * @param departmentId     The database ID of the department whose students are exported. Can be null.
+	 * @param outputStream     The stream to which the file will be written. It is not closed by this method.
+	 * @param progressListener Notified with the number of students read so far, as each student is read.
+	 * @param cancellation     Stops the export early, e.g. once the client has disconnected.
 	 * @throws IOException if an I/O error occurs.
 	 * @throws JRException if a JasperReports error occurs.
+	 * @throws com.aurionpro.studentmanagement.exception.ExportAbortedException if the export was cancelled.
 	 */
-	void generateStudentsPdf(String filter, Boolean isActive, HttpServletResponse response) throws IOException, JRException;
-}
\ No newline at end of file
+	void exportStudents(ExportFormat format, String filter, Boolean isActive, Long departmentId, OutputStream outputStream,
+			LongConsumer progressListener, ExportCancellation cancellation) throws IOException, JRException;
+}
@@ -1,14 +1,17 @@
 package com.aurionpro.studentmanagement.service.impl;
 
+import com.aurionpro.studentmanagement.config.CacheConfig;
+import com.aurionpro.studentmanagement.config.MonitoringConfig;
 import com.aurionpro.studentmanagement.dto.response.CourseDto;
-import com.aurionpro.studentmanagement.entity.Course;
-import com.aurionpro.studentmanagement.mapper.CourseMapper;
 import com.aurionpro.studentmanagement.repository.CourseRepository;
 import com.aurionpro.studentmanagement.service.CourseService;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,17 +20,19 @@ import org.springframework.transaction.annotation.Transactional;
  * This class contains the business logic for handling course data.
  */
 @Service
+@Timed(MonitoringConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Slf4j
 public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
-    private final CourseMapper courseMapper;
 
     /**
      * Retrieves all active courses, optionally filtering them by a specific department ID.
      * This is used to populate dropdowns in the UI, ensuring only valid, active courses can be selected.
      * The operation is performed within a read-only transaction for optimized database performance.
+     * Results are served from the {@value CacheConfig#ACTIVE_COURSES_CACHE} cache, keyed by department ID
+     * or {@code all}, and invalidated by the department operations that change courses.
      *
      * @param departmentId The ID of the department to filter by. If this parameter is null,
      *                     the method will return all active courses from all departments.
@@ -36,6 +41,7 @@ public class CourseServiceImpl implements CourseService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_COURSES_CACHE, key = "#departmentId ?: 'all'")
     public List<CourseDto> getAllCourses(Long departmentId) {
         if (departmentId != null) {
             log.info("Fetching active courses for departmentId: {}", departmentId);
@@ -43,19 +49,23 @@ public class CourseServiceImpl implements CourseService {
             log.info("Fetching all active courses.");
         }
 
-        List<Course> courses;
-        if (departmentId != null) {
-            // Fetch active courses belonging to a specific department
-            courses = courseRepository.findByDepartmentIdAndIsActive(departmentId, true);
-        } else {
-            // Fetch all active courses if no department ID is provided
-            courses = courseRepository.findAll().stream().filter(Course::isActive).collect(Collectors.toList());
-        }
+        // Project the active courses straight into DTOs, filtering in the query rather than in memory
+        List<CourseDto> courses = courseRepository.findActiveCourseDtos(departmentId);
 
         log.info("Found {} active courses.", courses.size());
-        // Map the list of Course entities to a list of CourseDto objects
-        return courses.stream()
-                .map(courseMapper::toDto)
-                .collect(Collectors.toList());
+        return courses;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Like {@link #getAllCourses(Long)}, the courses are projected directly into DTOs by the query,
+     * so large catalogues can be paged through without loading managed entities.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CourseDto> getCoursesPage(Long departmentId, Pageable pageable) {
+        log.info("Fetching active courses page number: {}, page size: {}, departmentId: {}",
+                pageable.getPageNumber(), pageable.getPageSize(), departmentId);
+        return courseRepository.findActiveCourseDtos(departmentId, pageable);
     }
-}
\ No newline at end of file
+}
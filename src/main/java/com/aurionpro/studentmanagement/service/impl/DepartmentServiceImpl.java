@@ -1,5 +1,7 @@
 package com.aurionpro.studentmanagement.service.impl;
 
+import com.aurionpro.studentmanagement.config.CacheConfig;
+import com.aurionpro.studentmanagement.config.MonitoringConfig;
 import com.aurionpro.studentmanagement.dto.request.CreateDepartmentRequestDto;
 import com.aurionpro.studentmanagement.dto.request.UpdateCourseNestedDto;
 import com.aurionpro.studentmanagement.dto.request.UpdateDepartmentRequestDto;
@@ -13,14 +15,21 @@ import com.aurionpro.studentmanagement.mapper.DepartmentMapper;
 import com.aurionpro.studentmanagement.repository.CourseRepository;
 import com.aurionpro.studentmanagement.repository.DepartmentRepository;
 import com.aurionpro.studentmanagement.service.DepartmentService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.criteria.Predicate;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -34,6 +43,7 @@ import org.springframework.util.StringUtils;
  * status management, and synchronization of associated courses.
  */
 @Service
+@Timed(MonitoringConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Slf4j
 public class DepartmentServiceImpl implements DepartmentService {
@@ -66,9 +76,12 @@ public class DepartmentServiceImpl implements DepartmentService {
     /**
      * {@inheritDoc}
      * This is optimized for UI dropdowns where only active departments should be listed.
+     * The result is served from the {@value CacheConfig#ACTIVE_DEPARTMENTS_CACHE} cache,
+     * which is invalidated whenever a department is added, updated or toggled.
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.ACTIVE_DEPARTMENTS_CACHE)
     public List<DepartmentDto> getAllActiveDepartments() {
         return departmentRepository.findByIsActive(true).stream().map(departmentMapper::toDto).collect(Collectors.toList());
     }
@@ -92,9 +105,14 @@ public class DepartmentServiceImpl implements DepartmentService {
      * This method creates a new department and its associated courses in a single transaction.
      * The relationship between the new courses and the department is established before saving,
      * allowing JPA's cascade functionality to persist them together.
+     * All cached course lists are invalidated, as one may have been cached for the new department's ID.
      */
     @Override
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_DEPARTMENTS_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_COURSES_CACHE, allEntries = true)
+    })
     public DepartmentDto addDepartment(CreateDepartmentRequestDto requestDto) {
         if (departmentRepository.existsByName(requestDto.getName())) {
             throw new DuplicateResourceException("Department with name '" + requestDto.getName() + "' already exists.");
@@ -118,9 +136,15 @@ public class DepartmentServiceImpl implements DepartmentService {
      * {@inheritDoc}
      * This transactional method updates the department's name and then calls a helper method
      * to synchronize the state of its associated courses with the list provided in the request.
+     * Only the cached course lists of this department and of all departments are invalidated.
      */
     @Override
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_DEPARTMENTS_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_COURSES_CACHE, key = "#departmentId"),
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_COURSES_CACHE, key = "'all'")
+    })
     public DepartmentDetailDto updateDepartment(Long departmentId, UpdateDepartmentRequestDto requestDto) {
         log.info("Updating department ID: {}", departmentId);
         Department department = departmentRepository.findById(departmentId)
@@ -133,9 +157,8 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         syncCourses(department, requestDto.getCourses());
 
-        // The save is technically redundant due to dirty checking within a @Transactional context,
-        // but it can make the intent clearer.
-        Department updatedDepartment = departmentRepository.save(department);
+        // Flush the pending course changes, so that the course list loaded for the response reflects them
+        Department updatedDepartment = departmentRepository.saveAndFlush(department);
         return departmentMapper.toDetailDto(updatedDepartment);
     }
 
@@ -143,28 +166,30 @@ public class DepartmentServiceImpl implements DepartmentService {
      * Synchronizes the courses of a department based on a list of DTOs.
      * This method handles three scenarios:
      * 1.  **Updating Existing Courses:** If a DTO has an ID, the corresponding course is updated.
-     * 2.  **Adding New Courses:** If a DTO has no ID, a new course is created and added to the department.
+     * 2.  **Adding New Courses:** If a DTO has no ID, a new course is created for the department.
      * 3.  **Removing Orphaned Courses:** Any course existing in the database but not present in the request list is deleted.
-     * This is achieved by modifying the department's managed list of courses; JPA's `orphanRemoval=true` handles the deletion.
+     * The three sets are computed with hash lookups against the department's courses, loaded with one query.
+     * Changed and new courses are written in JDBC batches, and removed courses are deleted with a single
+     * bulk statement rather than one DELETE per course through orphan removal. The department's
+     * {@code courses} collection is left uninitialized, so it reflects the result when it is next loaded.
      *
      * @param department The managed Department entity to be updated.
      * @param courseDtos The list of course DTOs representing the desired state.
      */
     private void syncCourses(Department department, List<UpdateCourseNestedDto> courseDtos) {
-        List<Course> managedCourses = department.getCourses();
-        
         // Create a map of existing courses for efficient lookup.
-        Map<Long, Course> existingCourseMap = managedCourses.stream()
+        Map<Long, Course> existingCourseMap = courseRepository.findByDepartmentId(department.getId()).stream()
             .collect(Collectors.toMap(Course::getId, Function.identity()));
 
-        List<Long> requestIds = new ArrayList<>();
+        Set<Long> requestIds = new HashSet<>();
+        List<Course> newCourses = new ArrayList<>();
 
         for (UpdateCourseNestedDto dto : courseDtos) {
             if (dto.getId() != null) {
                 // This DTO refers to an existing course.
                 requestIds.add(dto.getId());
                 Course existingCourse = existingCourseMap.get(dto.getId());
-                if (existingCourse != null) { // Update its properties
+                if (existingCourse != null) { // Update its properties; dirty checking only writes changed courses
                     existingCourse.setName(dto.getName());
                     existingCourse.setDescription(dto.getDescription());
                 }
@@ -172,31 +197,38 @@ public class DepartmentServiceImpl implements DepartmentService {
                 Course newCourse = new Course();
                 newCourse.setName(dto.getName());
                 newCourse.setDescription(dto.getDescription());
-                newCourse.setDepartment(department); // Set the back-reference
-                managedCourses.add(newCourse); // Add the new course to the department's managed list
+                newCourse.setDepartment(department);
+                newCourses.add(newCourse);
             }
         }
-        
+        courseRepository.saveAll(newCourses);
+
         // Identify courses to be removed (those in the DB but not in the update request).
-        List<Course> toDelete = existingCourseMap.values().stream()
-            .filter(course -> !requestIds.contains(course.getId()))
-            .collect(Collectors.toList());
+        Set<Long> toDelete = existingCourseMap.keySet().stream()
+            .filter(id -> !requestIds.contains(id))
+            .collect(Collectors.toSet());
 
-        // Remove the orphaned courses from the managed list.
-        // Due to `orphanRemoval=true` on the relationship, JPA will delete these from the database.
         if (!toDelete.isEmpty()) {
-            managedCourses.removeAll(toDelete);
-            log.info("Removed {} orphan courses for department ID {}", toDelete.size(), department.getId());
+            int deleted = courseRepository.deleteByDepartmentIdAndIdIn(department.getId(), toDelete);
+            log.info("Removed {} orphan courses for department ID {}", deleted, department.getId());
         }
+        log.debug("Synchronized courses of department ID {}: {} added, {} removed", department.getId(), newCourses.size(), toDelete.size());
     }
 
     /**
      * {@inheritDoc}
      * This business rule dictates that changing a department's status
-     * must also apply the same status to all of its associated courses.
+     * must also apply the same status to all of its associated courses, which is done with a single
+     * bulk statement rather than loading and saving each course. Student enrolments are left as they are.
+     * Only the cached course lists of this department and of all departments are invalidated.
      */
     @Override
     @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_DEPARTMENTS_CACHE, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_COURSES_CACHE, key = "#departmentId"),
+        @CacheEvict(cacheNames = CacheConfig.ACTIVE_COURSES_CACHE, key = "'all'")
+    })
     public DepartmentDto toggleDepartmentStatus(Long departmentId) {
         Department department = departmentRepository.findById(departmentId)
             .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + departmentId));
@@ -205,12 +237,10 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setActive(newStatus);
         log.info("Setting department {} to status: {}", departmentId, newStatus);
 
-        // Cascade the status change to all associated courses.
-        List<Course> courses = courseRepository.findByDepartmentId(departmentId);
-        if (!courses.isEmpty()) {
-            courses.forEach(course -> course.setActive(newStatus));
-            courseRepository.saveAll(courses);
-        }
-        return departmentMapper.toDto(departmentRepository.save(department));
+        // Cascade the status change to all associated courses with one bulk UPDATE.
+        // The department change is flushed before it, and the persistence context is cleared after it.
+        int updatedCourses = courseRepository.updateActiveStatusByDepartmentId(departmentId, newStatus, Instant.now());
+        log.info("Set {} courses of department {} to status: {}", updatedCourses, departmentId, newStatus);
+        return departmentMapper.toDto(department);
     }
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+package com.aurionpro.studentmanagement.service.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.aurionpro.studentmanagement.config.MonitoringConfig;
+import com.aurionpro.studentmanagement.dto.request.CreateExportJobRequestDto;
+import com.aurionpro.studentmanagement.dto.response.ExportJobDto;
+import com.aurionpro.studentmanagement.exception.BusinessRuleException;
+import com.aurionpro.studentmanagement.exception.CapacityExceededException;
+import com.aurionpro.studentmanagement.exception.ResourceNotFoundException;
+import com.aurionpro.studentmanagement.export.ExportCancellation;
+import com.aurionpro.studentmanagement.export.ExportJob;
+import com.aurionpro.studentmanagement.export.ExportJobResult;
+import com.aurionpro.studentmanagement.export.ExportJobStatus;
+import com.aurionpro.studentmanagement.service.ExportJobService;
+import com.aurionpro.studentmanagement.service.StudentService;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the {@link ExportJobService}.
+ * Jobs run on a fixed-size worker pool with a bounded queue, so at most
+ * {@code app.export.jobs.max-concurrent-jobs} exports hold a database connection at a time.
+ * The workers are virtual threads when {@code spring.threads.virtual.enabled} is set.
+ * Job state is kept in memory and generated files are written to a local storage directory;
+ * a scheduled task removes both once their retention period has elapsed and no download
+ * of the file is in progress.
+ */
+@Service
+@Timed(MonitoringConfig.SERVICE_TIMER)
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final DateTimeFormatter FILE_NAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss").withZone(ZoneOffset.UTC);
+
+    private final StudentService studentService;
+    private final Path storageDirectory;
+    private final Duration retention;
+    private final ExecutorService executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobServiceImpl(StudentService studentService,
+            @Value("${app.export.jobs.storage-dir}") String storageDirectory,
+            @Value("${app.export.jobs.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${app.export.jobs.max-queued-jobs:10}") int maxQueuedJobs,
+            @Value("${app.export.jobs.retention-minutes:60}") long retentionMinutes,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.studentService = studentService;
+        this.storageDirectory = Paths.get(storageDirectory).toAbsolutePath();
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        // Virtual workers do not occupy a platform thread while blocked on JDBC or file I/O;
+        // the pool size still bounds how many exports hold a database connection at once
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("export-job-", 1).factory()
+                : new CustomizableThreadFactory("export-job-");
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), threadFactory);
+    }
+
+    /**
+     * Creates the storage directory and removes files left behind by a previous run,
+     * as the jobs they belonged to are no longer known.
+     *
+     * @throws IOException if the storage directory cannot be created or listed.
+     */
+    @PostConstruct
+    void initializeStorage() throws IOException {
+        Files.createDirectories(storageDirectory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(storageDirectory)) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        }
+        log.info("Export job files will be stored in {}", storageDirectory);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ExportJobDto submitJob(CreateExportJobRequestDto requestDto) {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), requestDto.getFormat(), requestDto.getFilter(), requestDto.getIsActive());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> runJob(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            log.warn("Rejected {} export job, the export queue is full.", job.getFormat());
+            throw new CapacityExceededException("Too many export jobs are in progress. Please try again later.");
+        }
+        log.info("Submitted {} export job {} with filter: '{}', isActive: {}", job.getFormat(), job.getId(), job.getFilter(), job.getIsActive());
+        return toDto(job);
+    }
+
+    @Override
+    public ExportJobDto getJob(String jobId) {
+        return toDto(findJob(jobId));
+    }
+
+    @Override
+    public ExportJobResult getJobResult(String jobId) {
+        ExportJob job = findJob(jobId);
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new BusinessRuleException("Export job '" + jobId + "' has no downloadable file. Current status: " + job.getStatus());
+        }
+        if (!job.startDownload()) {
+            // removed by the cleanup since it was looked up
+            throw new ResourceNotFoundException("Export job not found with ID: " + jobId);
+        }
+        try {
+            InputStream content = openForDownload(job);
+            String fileName = "students_" + FILE_NAME_TIMESTAMP.format(job.getCreatedAt()) + "." + job.getFormat().getExtension();
+            return new ExportJobResult(content, Files.size(job.getResultFile()), job.getFormat(), fileName);
+        } catch (IOException e) {
+            job.finishDownload();
+            throw new UncheckedIOException("The file of export job '" + jobId + "' could not be read.", e);
+        }
+    }
+
+    /**
+     * Removes expired jobs together with their generated files. A job whose file is still being
+     * downloaded is kept until a later run after the download has finished.
+     */
+    @Scheduled(fixedDelayString = "${app.export.jobs.cleanup-interval-ms:60000}")
+    public void removeExpiredJobs() {
+        Instant now = Instant.now();
+        Iterator<ExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            if (job.removeIfExpired(now)) {
+                iterator.remove();
+                if (job.getResultFile() != null) {
+                    deleteQuietly(job.getResultFile());
+                }
+                log.info("Removed expired export job {}", job.getId());
+            }
+        }
+    }
+
+    private void runJob(ExportJob job) {
+        Path partialFile = storageDirectory.resolve(job.getId() + ".part");
+        Path resultFile = storageDirectory.resolve(job.getId() + "." + job.getFormat().getExtension());
+        try {
+            job.markRunning(studentService.countStudents(job.getFilter(), job.getIsActive()));
+            log.info("Running export job {} for {} students.", job.getId(), job.getTotalRows());
+
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(partialFile))) {
+                // Jobs are not cancelled individually; interrupting the worker at shutdown stops the export
+                studentService.exportStudents(job.getFormat(), job.getFilter(), job.getIsActive(), null, outputStream,
+                        job::updateProgress, new ExportCancellation());
+            }
+            Files.move(partialFile, resultFile, StandardCopyOption.REPLACE_EXISTING);
+
+            job.markCompleted(resultFile, Instant.now().plus(retention));
+            log.info("Export job {} completed, file size: {} bytes.", job.getId(), Files.size(resultFile));
+        } catch (Exception e) {
+            log.error("Export job {} failed.", job.getId(), e);
+            deleteQuietly(partialFile);
+            job.markFailed("The export could not be generated: " + e.getMessage(), Instant.now().plus(retention));
+        }
+    }
+
+    /**
+     * Opens the generated file of a job whose download has started, ending the download when the stream is closed.
+     */
+    private static InputStream openForDownload(ExportJob job) throws IOException {
+        return new FilterInputStream(Files.newInputStream(job.getResultFile())) {
+            private final AtomicBoolean closed = new AtomicBoolean();
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (closed.compareAndSet(false, true)) {
+                        job.finishDownload();
+                    }
+                }
+            }
+        };
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private ExportJobDto toDto(ExportJob job) {
+        ExportJobDto dto = new ExportJobDto();
+        dto.setJobId(job.getId());
+        dto.setFormat(job.getFormat());
+        dto.setStatus(job.getStatus());
+        dto.setTotalRows(job.getTotalRows());
+        dto.setProcessedRows(job.getProcessedRows());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setCompletedAt(job.getCompletedAt());
+        dto.setExpiresAt(job.getExpiresAt());
+        dto.setErrorMessage(job.getErrorMessage());
+        if (job.getStatus() == ExportJobStatus.COMPLETED) {
+            dto.setProgressPercent(100);
+            dto.setDownloadUrl("/api/v1/students/export-jobs/" + job.getId() + "/download");
+        } else if (job.getTotalRows() > 0) {
+            dto.setProgressPercent((int) Math.min(99, job.getProcessedRows() * 100 / job.getTotalRows()));
+        }
+        return dto;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete export file {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.aurionpro.studentmanagement.service.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.aurionpro.studentmanagement.config.MonitoringConfig;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.export.ExportCancellation;
+import com.aurionpro.studentmanagement.export.ExportFormat;
+import com.aurionpro.studentmanagement.repository.DepartmentRepository;
+import com.aurionpro.studentmanagement.service.StudentBundleExportService;
+import com.aurionpro.studentmanagement.service.StudentService;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jasperreports.engine.JRException;
+
+/**
+ * Implementation of the {@link StudentBundleExportService}.
+ * Each department's report is rendered by {@link StudentService#exportStudents} into a temporary
+ * file on a worker pool of {@code app.export.bundle.max-parallel-reports} threads, each worker
+ * using its own read-only transaction. The pool is shared by all bundle downloads, so it also
+ * bounds the database connections they hold. As each report completes, it is copied into the
+ * ZIP archive and its file is deleted, so a bundle takes about as long as its largest department
+ * rather than the sum of all of them.
+ */
+@Service
+@Timed(MonitoringConfig.SERVICE_TIMER)
+@Slf4j
+public class StudentBundleExportServiceImpl implements StudentBundleExportService {
+
+    private final StudentService studentService;
+    private final DepartmentRepository departmentRepository;
+    private final Path workDirectory;
+    private final ExecutorService executor;
+
+    /**
+     * A department's report, rendered into a temporary file.
+     *
+     * @param entryName The name of the report in the ZIP archive.
+     * @param file      The temporary file holding the report.
+     * @param rows      The number of students in the report.
+     */
+    private record DepartmentReport(String entryName, Path file, long rows) {
+    }
+
+    public StudentBundleExportServiceImpl(StudentService studentService, DepartmentRepository departmentRepository,
+            @Value("${app.export.bundle.work-dir}") String workDirectory,
+            @Value("${app.export.bundle.max-parallel-reports:4}") int maxParallelReports,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.studentService = studentService;
+        this.departmentRepository = departmentRepository;
+        this.workDirectory = Paths.get(workDirectory).toAbsolutePath();
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("bundle-report-", 1).factory()
+                : new CustomizableThreadFactory("bundle-report-");
+        // Bundle downloads are already limited by the ExportConcurrencyLimiter, so the queue is left unbounded
+        this.executor = new ThreadPoolExecutor(maxParallelReports, maxParallelReports, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * Creates the work directory and removes report files left behind by a previous run.
+     *
+     * @throws IOException if the work directory cannot be created or listed.
+     */
+    @PostConstruct
+    void initializeWorkDirectory() throws IOException {
+        Files.createDirectories(workDirectory);
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(workDirectory)) {
+            for (Path leftover : leftovers) {
+                deleteQuietly(leftover);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void exportDepartmentBundle(ExportFormat format, String filter, Boolean isActive, OutputStream outputStream,
+            ExportCancellation cancellation) throws IOException, JRException {
+        List<Department> departments = departmentRepository.findAll(Sort.by("name"));
+        log.info("Generating {} bundle of {} departments with filter: '{}', isActive: {}",
+                format, departments.size(), filter, isActive);
+
+        CompletionService<DepartmentReport> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<DepartmentReport>> reports = new ArrayList<>(departments.size());
+        Set<String> entryNames = new HashSet<>();
+        for (Department department : departments) {
+            Long departmentId = department.getId();
+            String entryName = entryName(department.getName(), format);
+            if (!entryNames.add(entryName)) {
+                // two names that only differ in replaced characters
+                entryName = entryName(department.getName() + "-" + departmentId, format);
+            }
+            String uniqueEntryName = entryName;
+            reports.add(completionService.submit(() -> render(format, filter, isActive, departmentId, uniqueEntryName, cancellation)));
+        }
+
+        int written = 0;
+        try {
+            ZipOutputStream zip = new ZipOutputStream(outputStream);
+            // XLSX and PDF files are compressed already; deflating them again costs time and saves nothing
+            zip.setLevel(format == ExportFormat.CSV ? Deflater.DEFAULT_COMPRESSION : Deflater.NO_COMPRESSION);
+            for (int i = 0; i < reports.size(); i++) {
+                // Every report shares the cancellation, so the one taken next fails soon after a cancel
+                DepartmentReport report = takeCompleted(completionService);
+                try {
+                    if (report.rows() > 0) {
+                        zip.putNextEntry(new ZipEntry(report.entryName()));
+                        Files.copy(report.file(), zip);
+                        zip.closeEntry();
+                        written++;
+                    }
+                } finally {
+                    deleteQuietly(report.file());
+                }
+            }
+            // Writes the central directory without closing the response stream
+            zip.finish();
+        } finally {
+            // After a failure, stops the reports still running and deletes those not yet copied
+            for (Future<DepartmentReport> report : reports) {
+                if (!report.cancel(true) && report.state() == Future.State.SUCCESS) {
+                    deleteQuietly(report.resultNow().file());
+                }
+            }
+        }
+        log.info("{} bundle completed with {} of {} department reports.", format, written, departments.size());
+    }
+
+    /**
+     * Renders the report of one department into a temporary file, in the transaction of the calling worker.
+     */
+    private DepartmentReport render(ExportFormat format, String filter, Boolean isActive, Long departmentId, String entryName,
+            ExportCancellation cancellation) throws IOException, JRException {
+        Path file = Files.createTempFile(workDirectory, "department-" + departmentId + "-", "." + format.getExtension());
+        AtomicLong rows = new AtomicLong();
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+            studentService.exportStudents(format, filter, isActive, departmentId, outputStream, rows::set, cancellation);
+        } catch (IOException | JRException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return new DepartmentReport(entryName, file, rows.get());
+    }
+
+    /**
+     * Waits for the next report to complete, rethrowing the exception with which it failed.
+     */
+    private static DepartmentReport takeCompleted(CompletionService<DepartmentReport> completionService)
+            throws IOException, JRException {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a department report.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof JRException jrException) {
+                throw jrException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("A department report could not be generated.", cause);
+        }
+    }
+
+    /**
+     * Derives the archive entry name of a department's report from the department name,
+     * keeping only characters that are safe in file names on every platform.
+     */
+    private static String entryName(String departmentName, ExportFormat format) {
+        return departmentName.replaceAll("[^A-Za-z0-9._-]", "_") + "." + format.getExtension();
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete bundle report file {}", file, e);
+        }
+    }
+}
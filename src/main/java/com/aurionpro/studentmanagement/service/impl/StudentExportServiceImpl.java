@@ -1,164 +1,226 @@
 package com.aurionpro.studentmanagement.service.impl;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.aurionpro.studentmanagement.entity.Course;
 import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.export.CsvWriter;
+import com.aurionpro.studentmanagement.export.ReportTemplateCache;
+import com.aurionpro.studentmanagement.export.StudentReportDataSource;
 import com.aurionpro.studentmanagement.service.StudentExportService;
 
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.jasperreports.engine.JRException;
-import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.JasperReport;
-import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
 
 /**
  * Implementation of the {@link StudentExportService}.
- * This service handles the logic for generating Excel and CSV files from a list of students.
- * It uses Apache POI for Excel generation and a PrintWriter for CSV generation.
+ * This service handles the logic for generating Excel, CSV and PDF files from a list of students.
+ * It uses Apache POI's streaming API for Excel generation, a {@link CsvWriter} for CSV generation
+ * and JasperReports for PDF generation.
  */
 @Service
 @Slf4j
 public class StudentExportServiceImpl implements StudentExportService {
 
+  private static final String[] EXPORT_HEADERS = { "Student ID", "First Name", "Last Name", "Email", "Department", "Courses", "Status" };
+
+  /** Number of rows kept in memory by the streaming workbook before they are flushed to disk. */
+  private static final int EXCEL_ROW_ACCESS_WINDOW = 100;
+
+  /** Number of leading data rows inspected when deriving column widths. */
+  private static final int EXCEL_WIDTH_SAMPLE_ROWS = 500;
+
+  /** Upper bound for a column width, in characters. */
+  private static final int EXCEL_MAX_COLUMN_WIDTH = 60;
+
+  /** Size of the blocks in which swapped-out report pages are stored, in bytes. */
+  private static final int PDF_SWAP_BLOCK_SIZE = 4096;
+
+  /** Number of blocks by which the swap file grows when it is full. */
+  private static final int PDF_SWAP_MIN_GROW_COUNT = 256;
+
+  private final ReportTemplateCache reportTemplateCache;
+  private final long pdfVirtualizationThreshold;
+  private final int pdfVirtualizerMaxPages;
+  private final Path pdfSwapDirectory;
+
+  public StudentExportServiceImpl(ReportTemplateCache reportTemplateCache,
+      @Value("${app.export.pdf.virtualization-threshold:10000}") long pdfVirtualizationThreshold,
+      @Value("${app.export.pdf.virtualizer-max-pages:100}") int pdfVirtualizerMaxPages,
+      @Value("${app.export.pdf.swap-dir:${java.io.tmpdir}/student-management/pdf-swap}") String pdfSwapDirectory) {
+    this.reportTemplateCache = reportTemplateCache;
+    this.pdfVirtualizationThreshold = pdfVirtualizationThreshold;
+    this.pdfVirtualizerMaxPages = pdfVirtualizerMaxPages;
+    this.pdfSwapDirectory = Paths.get(pdfSwapDirectory).toAbsolutePath();
+  }
+
   /**
    * {@inheritDoc}
-   * This implementation uses the Apache POI library to create an XLSX workbook,
-   * populate it with student data, and write it to the HttpServletResponse output stream.
+   * This implementation uses Apache POI's streaming {@link SXSSFWorkbook}, which keeps only a
+   * sliding window of {@value #EXCEL_ROW_ACCESS_WINDOW} rows in memory and flushes older rows to a
+   * compressed temporary file. Column widths are derived from the first
+   * {@value #EXCEL_WIDTH_SAMPLE_ROWS} rows instead of {@code autoSizeColumn}, which would require
+   * every row to be held in memory.
    */
   @Override
-  public void exportToExcel(List<Student> students, HttpServletResponse response) throws IOException {
-    log.info("Starting Excel export for {} students.", students.size());
-    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-      XSSFSheet sheet = workbook.createSheet("Students");
+  public void exportToExcel(Stream<Student> students, OutputStream outputStream) throws IOException {
+    log.info("Starting Excel export.");
+    SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_ACCESS_WINDOW);
+    workbook.setCompressTempFiles(true);
+    try {
+      SXSSFSheet sheet = workbook.createSheet("Students");
 
       // Create and style the header row
       Row headerRow = sheet.createRow(0);
       CellStyle headerStyle = workbook.createCellStyle();
-      XSSFFont font = workbook.createFont();
+      Font font = workbook.createFont();
       font.setBold(true);
       headerStyle.setFont(font);
 
-      String[] headers = { "Student ID", "First Name", "Last Name", "Email", "Department", "Courses", "Status" };
-      for (int i = 0; i < headers.length; i++) {
+      int[] columnWidths = new int[EXPORT_HEADERS.length];
+      for (int i = 0; i < EXPORT_HEADERS.length; i++) {
         Cell cell = headerRow.createCell(i);
-        cell.setCellValue(headers[i]);
+        cell.setCellValue(EXPORT_HEADERS[i]);
         cell.setCellStyle(headerStyle);
+        columnWidths[i] = EXPORT_HEADERS[i].length();
       }
 
-      // Populate data rows
+      // Populate data rows, sampling the first rows for column widths
       int rowNum = 1;
-      for (Student student : students) {
-        Row row = sheet.createRow(rowNum++);
-        row.createCell(0).setCellValue(student.getStudentId());
-        row.createCell(1).setCellValue(student.getFirstName());
-        row.createCell(2).setCellValue(student.getLastName());
-        row.createCell(3).setCellValue(student.getEmail());
-        row.createCell(4).setCellValue(student.getDepartment().getName().replace("_", " "));
-        String courses = student.getCourses().stream().map(Course::getName).collect(Collectors.joining(", "));
-        row.createCell(5).setCellValue(courses);
-        row.createCell(6).setCellValue(student.isActive() ? "Active" : "Inactive");
+      Iterator<Student> iterator = students.iterator();
+      while (iterator.hasNext()) {
+        Student student = iterator.next();
+        Row row = sheet.createRow(rowNum);
+        String[] values = {
+          student.getStudentId(),
+          student.getFirstName(),
+          student.getLastName(),
+          student.getEmail(),
+          student.getDepartment().getName().replace("_", " "),
+          student.getCourses().stream().map(Course::getName).collect(Collectors.joining(", ")),
+          student.isActive() ? "Active" : "Inactive",
+        };
+        for (int i = 0; i < values.length; i++) {
+          row.createCell(i).setCellValue(values[i]);
+          if (rowNum <= EXCEL_WIDTH_SAMPLE_ROWS && values[i] != null) {
+            columnWidths[i] = Math.max(columnWidths[i], values[i].length());
+          }
+        }
+        rowNum++;
       }
 
-      // Auto-size columns for better readability
-      for (int i = 0; i < headers.length; i++) {
-        sheet.autoSizeColumn(i);
+      for (int i = 0; i < columnWidths.length; i++) {
+        int widthInChars = Math.min(columnWidths[i] + 2, EXCEL_MAX_COLUMN_WIDTH);
+        sheet.setColumnWidth(i, widthInChars * 256);
       }
 
-      workbook.write(response.getOutputStream());
-      log.info("Excel export completed successfully.");
+      workbook.write(outputStream);
+      log.info("Excel export completed successfully with {} students.", rowNum - 1);
+    } finally {
+      // Deletes the temporary files backing the flushed rows
+      workbook.dispose();
+      workbook.close();
     }
   }
 
   /**
    * {@inheritDoc}
-   * This implementation uses a {@link PrintWriter} to write the student data in CSV format
-   * directly to the HttpServletResponse writer. It formats the data, including a header row.
+   * This implementation uses a {@link CsvWriter}, which encodes the fields straight into a reusable
+   * UTF-8 byte buffer and quotes them as required by RFC 4180. The course names of a student are
+   * joined into one field with "; ".
    */
   @Override
-  public void exportToCsv(List<Student> students, HttpServletResponse response) throws IOException {
-    log.info("Starting CSV export for {} students.", students.size());
-    try (PrintWriter writer = response.getWriter()) {
-      // Write header
-      writer.println("Student ID,First Name,Last Name,Email,Department,Courses,Status");
-
-      // Write data rows
-      for (Student student : students) {
-        String courses = student.getCourses().stream()
-                .map(Course::getName)
-                .collect(Collectors.joining("; ")); // Use semicolon in case course names have commas
-        
-        String[] data = {
-          student.getStudentId(),
-          student.getFirstName(),
-          student.getLastName(),
-          student.getEmail(),
-          student.getDepartment().getName().replace("_", " "),
-          "\"" + courses + "\"", // Quote the courses field to handle internal commas
-          student.isActive() ? "Active" : "Inactive",
-        };
-        writer.println(String.join(",", data));
+  public void exportToCsv(Stream<Student> students, OutputStream outputStream, boolean gzip) throws IOException {
+    log.info("Starting CSV export.");
+    long rowCount = 0;
+    try (CsvWriter writer = new CsvWriter(outputStream, gzip)) {
+      writer.record(EXPORT_HEADERS);
+
+      Iterator<Student> iterator = students.iterator();
+      while (iterator.hasNext()) {
+        Student student = iterator.next();
+        writer.field(student.getStudentId())
+            .field(student.getFirstName())
+            .field(student.getLastName())
+            .field(student.getEmail())
+            .field(student.getDepartment().getName().replace('_', ' '))
+            .joinedField(student.getCourses(), Course::getName, "; ")
+            .field(student.isActive() ? "Active" : "Inactive")
+            .endRecord();
+        rowCount++;
       }
-      log.info("CSV export completed successfully.");
     }
+    log.info("CSV export completed successfully with {} students.", rowCount);
   }
   
+  /**
+   * {@inheritDoc}
+   * The students are filled into the report one at a time by a {@link StudentReportDataSource}.
+   * Reports of at least {@code app.export.pdf.virtualization-threshold} rows, or of an unknown
+   * number of rows, are filled with a {@link JRSwapFileVirtualizer}: only the last
+   * {@code app.export.pdf.virtualizer-max-pages} pages are kept in memory and the others are
+   * swapped out to a file in {@code app.export.pdf.swap-dir}, which is removed once the PDF has been written.
+   */
   @Override
-  public void exportToPdf(List<Student> students, HttpServletResponse response) throws IOException, JRException {
-      log.info("Starting PDF export for {} students.", students.size());
-
-      // Prepare data for JasperReports
-      List<Map<String, Object>> dataSource = students.stream().map(student -> {
-          Map<String, Object> map = new HashMap<>();
-          map.put("studentId", student.getStudentId());
-          map.put("name", student.getFirstName() + " " + student.getLastName());
-          map.put("email", student.getEmail());
-          map.put("department", student.getDepartment().getName().replace("_", " "));
-          map.put("courses", student.getCourses().stream().map(Course::getName).collect(Collectors.joining(", ")));
-          map.put("status", student.isActive() ? "Active" : "Inactive");
-          return map;
-      }).collect(Collectors.toList());
-
-      // Load and compile the JRXML template
-      InputStream reportStream = getClass().getResourceAsStream("/reports/student-list.jrxml");
-      if (reportStream == null) {
-          log.error("JRXML template not found!");
-          throw new JRException("Resource not found: /reports/student-list.jrxml");
-      }
-      JasperReport jasperReport = JasperCompileManager.compileReport(reportStream);
+  public void exportToPdf(Stream<Student> students, long expectedRows, OutputStream outputStream) throws IOException, JRException {
+      boolean virtualized = expectedRows == UNKNOWN_ROW_COUNT || expectedRows >= pdfVirtualizationThreshold;
+      log.info("Starting PDF export of {} students, virtualized: {}.",
+          expectedRows == UNKNOWN_ROW_COUNT ? "an unknown number of" : expectedRows, virtualized);
+
+      // Reuse the template compiled at startup
+      JasperReport jasperReport = reportTemplateCache.getReport(ReportTemplateCache.STUDENT_LIST_TEMPLATE);
 
-      JRBeanCollectionDataSource beanColDataSource = new JRBeanCollectionDataSource(dataSource);
-      
       Map<String, Object> parameters = new HashMap<>();
-      InputStream logoStream = getClass().getResourceAsStream("/images/aurionpro-logo.png");
-      if (logoStream == null) {
-          log.error("Logo image not found in resources! The report will be generated without a logo.");
+      parameters.put("LOGO_IMG", reportTemplateCache.openImage(ReportTemplateCache.LOGO_IMAGE));
+
+      JRSwapFileVirtualizer virtualizer = null;
+      if (virtualized) {
+          Files.createDirectories(pdfSwapDirectory);
+          JRSwapFile swapFile = new JRSwapFile(pdfSwapDirectory.toString(), PDF_SWAP_BLOCK_SIZE, PDF_SWAP_MIN_GROW_COUNT);
+          virtualizer = new JRSwapFileVirtualizer(pdfVirtualizerMaxPages, swapFile, true);
+          parameters.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+      }
+      try {
+          // Fill the report with data and parameters
+          JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, new StudentReportDataSource(students));
+          if (virtualizer != null) {
+              // The filled pages no longer change, so swapped-in pages need not be written back
+              virtualizer.setReadOnly(true);
+          }
+
+          // Export the report to PDF and write to the output stream
+          JasperExportManager.exportReportToPdfStream(jasperPrint, outputStream);
+          log.info("PDF export completed successfully with {} pages.", jasperPrint.getPages().size());
+      } finally {
+          if (virtualizer != null) {
+              // Deletes the swap file
+              virtualizer.cleanup();
+          }
       }
-      parameters.put("LOGO_IMG", logoStream);
-
-      // Fill the report with data and parameters
-      JasperPrint jasperPrint = JasperFillManager.fillReport(jasperReport, parameters, beanColDataSource);
-
-      // Export the report to PDF and write to the response
-      JasperExportManager.exportReportToPdfStream(jasperPrint, response.getOutputStream());
-      log.info("PDF export completed successfully.");
   }
-}
\ No newline at end of file
+}
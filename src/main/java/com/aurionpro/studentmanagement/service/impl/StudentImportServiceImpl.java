@@ -0,0 +1,233 @@
+package com.aurionpro.studentmanagement.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.aurionpro.studentmanagement.config.MonitoringConfig;
+import com.aurionpro.studentmanagement.dto.request.CreateStudentRequestDto;
+import com.aurionpro.studentmanagement.exception.BusinessRuleException;
+import com.aurionpro.studentmanagement.exception.ValidationException;
+import com.aurionpro.studentmanagement.service.StudentImportService;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the {@link StudentImportService}.
+ * Both formats are first read into rows of cell values, which are then mapped onto
+ * {@link CreateStudentRequestDto} objects by the column names of the header row.
+ * Only the conversion of cell values is checked here; the records themselves are validated
+ * by {@link com.aurionpro.studentmanagement.service.StudentService#importStudents(List)}.
+ */
+@Service
+@Timed(MonitoringConfig.SERVICE_TIMER)
+@Slf4j
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private static final String COLUMN_STUDENT_ID = "studentid";
+    private static final String COLUMN_FIRST_NAME = "firstname";
+    private static final String COLUMN_LAST_NAME = "lastname";
+    private static final String COLUMN_EMAIL = "email";
+    private static final String COLUMN_DEPARTMENT_ID = "departmentid";
+    private static final String COLUMN_COURSE_IDS = "courseids";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            COLUMN_STUDENT_ID, COLUMN_FIRST_NAME, COLUMN_LAST_NAME, COLUMN_EMAIL, COLUMN_DEPARTMENT_ID);
+
+    private static final String COURSE_ID_SEPARATORS = "[;,\\s]+";
+
+    @Override
+    public List<CreateStudentRequestDto> readStudents(String fileName, InputStream inputStream) throws IOException {
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if ("csv".equalsIgnoreCase(extension)) {
+            return readCsv(inputStream);
+        }
+        if ("xlsx".equalsIgnoreCase(extension)) {
+            return readExcel(inputStream);
+        }
+        throw new BusinessRuleException("Unsupported import file '" + fileName + "'. Upload a .csv or .xlsx file.");
+    }
+
+    @Override
+    public List<CreateStudentRequestDto> readCsv(InputStream inputStream) throws IOException {
+        log.info("Reading students from CSV file.");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = readCsvRecord(reader)) != null) {
+            if (!isBlank(record)) {
+                records.add(record);
+            }
+        }
+        return toRequests(records);
+    }
+
+    @Override
+    public List<CreateStudentRequestDto> readExcel(InputStream inputStream) throws IOException {
+        log.info("Reading students from Excel file.");
+        List<List<String>> records = new ArrayList<>();
+        DataFormatter formatter = new DataFormatter();
+        try (Workbook workbook = WorkbookFactory.create(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (Row row : sheet) {
+                List<String> record = new ArrayList<>();
+                for (int i = 0; i < row.getLastCellNum(); i++) {
+                    Cell cell = row.getCell(i);
+                    // DataFormatter renders numeric cells as displayed, e.g. 3 rather than 3.0
+                    record.add(cell == null ? "" : formatter.formatCellValue(cell));
+                }
+                if (!isBlank(record)) {
+                    records.add(record);
+                }
+            }
+        }
+        return toRequests(records);
+    }
+
+    /**
+     * Reads the next record of an RFC 4180 CSV file: fields are separated by commas, and fields
+     * enclosed in double quotes may contain commas, line breaks and doubled quotes.
+     *
+     * @return The fields of the record, or null at the end of the input.
+     */
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean readAny = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            readAny = true;
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!readAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Maps the rows following the header row onto request DTOs. Every conversion error of the
+     * file is collected, so that they can all be reported at once.
+     */
+    private List<CreateStudentRequestDto> toRequests(List<List<String>> records) {
+        if (records.isEmpty()) {
+            throw new ValidationException("The import file is empty.", List.of("A header row naming the columns is required."));
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(normalizeColumnName(header.get(i)), i);
+        }
+        List<String> missingColumns = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missingColumns.isEmpty()) {
+            throw new ValidationException("The import file is missing required columns.",
+                    List.of("Missing columns: " + missingColumns));
+        }
+
+        List<CreateStudentRequestDto> requests = new ArrayList<>(records.size() - 1);
+        List<String> errors = new ArrayList<>();
+        for (int i = 1; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            CreateStudentRequestDto request = new CreateStudentRequestDto();
+            request.setStudentId(cell(record, columns.get(COLUMN_STUDENT_ID)));
+            request.setFirstName(cell(record, columns.get(COLUMN_FIRST_NAME)));
+            request.setLastName(cell(record, columns.get(COLUMN_LAST_NAME)));
+            request.setEmail(cell(record, columns.get(COLUMN_EMAIL)));
+
+            String departmentId = cell(record, columns.get(COLUMN_DEPARTMENT_ID));
+            if (departmentId != null) {
+                try {
+                    request.setDepartmentId(Long.valueOf(departmentId));
+                } catch (NumberFormatException e) {
+                    errors.add("Row " + i + ": department ID '" + departmentId + "' is not a number.");
+                }
+            }
+
+            String courseIds = cell(record, columns.get(COLUMN_COURSE_IDS));
+            if (courseIds != null) {
+                try {
+                    request.setCourseIds(Arrays.stream(courseIds.split(COURSE_ID_SEPARATORS))
+                            .filter(StringUtils::hasText)
+                            .map(Long::valueOf)
+                            .toList());
+                } catch (NumberFormatException e) {
+                    errors.add("Row " + i + ": course IDs '" + courseIds + "' are not a list of numbers.");
+                }
+            }
+            requests.add(request);
+        }
+
+        if (!errors.isEmpty()) {
+            log.warn("Import file rejected with {} unreadable values.", errors.size());
+            throw new ValidationException("The import file contains values that cannot be read.", errors);
+        }
+        log.info("Read {} student records from import file.", requests.size());
+        return requests;
+    }
+
+    /**
+     * Returns the trimmed value of the given column, or null if the column is absent or the cell is empty.
+     */
+    private static String cell(List<String> record, Integer column) {
+        if (column == null || column >= record.size()) {
+            return null;
+        }
+        String value = record.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reduces a header name to lower-case letters and digits, so that e.g. "Student ID", "student_id"
+     * and "studentId" name the same column. This also drops the byte order mark with which
+     * spreadsheet applications commonly prefix UTF-8 CSV files.
+     */
+    private static String normalizeColumnName(String name) {
+        return name.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().noneMatch(StringUtils::hasText);
+    }
+}
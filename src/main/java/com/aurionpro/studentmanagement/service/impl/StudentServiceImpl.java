@@ -1,14 +1,27 @@
 package com.aurionpro.studentmanagement.service.impl;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -16,25 +29,39 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import com.aurionpro.studentmanagement.config.MonitoringConfig;
+import com.aurionpro.studentmanagement.dto.request.BulkStudentStatusRequestDto;
 import com.aurionpro.studentmanagement.dto.request.CreateStudentRequestDto;
 import com.aurionpro.studentmanagement.dto.request.UpdateStudentRequestDto;
+import com.aurionpro.studentmanagement.dto.response.BulkImportResultDto;
+import com.aurionpro.studentmanagement.dto.response.BulkImportRowErrorDto;
+import com.aurionpro.studentmanagement.dto.response.BulkStatusUpdateResultDto;
+import com.aurionpro.studentmanagement.dto.response.CursorPageDto;
 import com.aurionpro.studentmanagement.dto.response.StudentResponseDto;
 import com.aurionpro.studentmanagement.entity.Course;
 import com.aurionpro.studentmanagement.entity.Department;
 import com.aurionpro.studentmanagement.entity.Student;
 import com.aurionpro.studentmanagement.exception.BusinessRuleException;
 import com.aurionpro.studentmanagement.exception.DuplicateResourceException;
+import com.aurionpro.studentmanagement.exception.ExportAbortedException;
 import com.aurionpro.studentmanagement.exception.ResourceNotFoundException;
 import com.aurionpro.studentmanagement.exception.ValidationException;
+import com.aurionpro.studentmanagement.export.ExportCancellation;
+import com.aurionpro.studentmanagement.export.ExportFormat;
+import com.aurionpro.studentmanagement.export.ExportMetrics;
 import com.aurionpro.studentmanagement.mapper.StudentMapper;
 import com.aurionpro.studentmanagement.repository.CourseRepository;
 import com.aurionpro.studentmanagement.repository.DepartmentRepository;
 import com.aurionpro.studentmanagement.repository.StudentRepository;
+import com.aurionpro.studentmanagement.repository.StudentSpecifications;
 import com.aurionpro.studentmanagement.service.StudentExportService;
 import com.aurionpro.studentmanagement.service.StudentService;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.sf.jasperreports.engine.JRException;
@@ -45,6 +72,7 @@ import net.sf.jasperreports.engine.JRException;
  * for all student-related business logic. All database operations are transactional.
  */
 @Service
+@Timed(MonitoringConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Slf4j
 public class StudentServiceImpl implements StudentService {
@@ -55,11 +83,85 @@ public class StudentServiceImpl implements StudentService {
      */
     private record ValidatedEntities(Department department, Set<Course> courses) {}
 
+    /**
+     * A private helper record holding the existing data a bulk import batch is validated against,
+     * loaded once for the whole batch: the business IDs and emails already taken, and the
+     * departments and courses referenced by any row, keyed by ID.
+     */
+    private record ImportReferenceData(Set<String> existingStudentIds, Set<String> existingEmails,
+            Map<Long, Department> departments, Map<Long, Course> courses) {}
+
+    /**
+     * A method of the {@link StudentExportService} writing students in one format.
+     *
+     * @param <E> The format-specific exception type, such as the {@code JRException} of PDF exports.
+     */
+    @FunctionalInterface
+    private interface StudentExporter<E extends Exception> {
+        void export(Stream<Student> students, OutputStream outputStream) throws IOException, E;
+    }
+
+    /**
+     * A private helper record for the position of a keyset pagination cursor: the sort field and
+     * direction it was issued for, and the sort key and ID of the last student of the previous slice.
+     * It is exchanged with clients as an opaque, URL-safe Base64 token.
+     */
+    private record StudentCursor(String sortBy, Sort.Direction direction, String sortValue, Long id) {
+
+        String encode() {
+            String raw = String.join(CURSOR_SEPARATOR, sortBy, direction.name(), String.valueOf(id), sortValue);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static StudentCursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                // The sort value comes last, as it may itself contain the separator
+                String[] parts = raw.split(CURSOR_SEPARATOR, 4);
+                return new StudentCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[3], Long.valueOf(parts[2]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new BusinessRuleException("The pagination cursor is malformed.");
+            }
+        }
+    }
+
+    private static final String CURSOR_SEPARATOR = "\n";
+
+    /**
+     * Maximum number of students accepted in a single bulk import.
+     */
+    private static final int MAX_IMPORT_ROWS = 100_000;
+
+    /**
+     * Maximum number of values bound to a single IN clause while validating an import,
+     * well below the bind parameter limit of the database drivers.
+     */
+    private static final int IMPORT_LOOKUP_CHUNK_SIZE = 1_000;
+
+    /**
+     * Maximum number of students changed by a single statement of a bulk status update.
+     */
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 1_000;
+
+    /**
+     * The fields supported for keyset pagination, mapped to how their value is read from a student.
+     * All of them are non-null, which keeps the seek predicate simple.
+     */
+    private static final Map<String, Function<Student, Object>> CURSOR_SORT_KEYS = Map.of(
+            "id", Student::getId,
+            "studentId", Student::getStudentId,
+            "firstName", Student::getFirstName,
+            "lastName", Student::getLastName,
+            "email", Student::getEmail,
+            "createdAt", Student::getCreatedAt);
+
     private final StudentRepository studentRepository;
     private final DepartmentRepository departmentRepository;
     private final CourseRepository courseRepository;
     private final StudentMapper studentMapper;
     private final StudentExportService studentExportService;
+    private final ExportMetrics exportMetrics;
+    private final Validator validator;
 
     @Override
     @Transactional
@@ -85,6 +187,171 @@ public class StudentServiceImpl implements StudentService {
         return studentMapper.toDto(savedStudent);
     }
 
+    @Override
+    @Transactional
+    public BulkImportResultDto importStudents(List<CreateStudentRequestDto> requestDtos) {
+        log.info("Attempting to import {} students.", requestDtos.size());
+        if (requestDtos.size() > MAX_IMPORT_ROWS) {
+            throw new BusinessRuleException("An import may contain at most " + MAX_IMPORT_ROWS
+                    + " students, but " + requestDtos.size() + " were submitted.");
+        }
+
+        ImportReferenceData referenceData = loadImportReferenceData(requestDtos);
+        log.debug("Loaded reference data for import: {} taken student IDs, {} taken emails, {} departments, {} courses.",
+                referenceData.existingStudentIds().size(), referenceData.existingEmails().size(),
+                referenceData.departments().size(), referenceData.courses().size());
+
+        Map<String, Integer> firstRowByStudentId = new HashMap<>();
+        Map<String, Integer> firstRowByEmail = new HashMap<>();
+        List<Student> students = new ArrayList<>(requestDtos.size());
+        List<BulkImportRowErrorDto> rowErrors = new ArrayList<>();
+
+        for (int i = 0; i < requestDtos.size(); i++) {
+            int rowNumber = i + 1;
+            CreateStudentRequestDto requestDto = requestDtos.get(i);
+            if (requestDto == null) {
+                rowErrors.add(new BulkImportRowErrorDto(rowNumber, null, List.of("The row is empty.")));
+                continue;
+            }
+
+            List<String> errors = new ArrayList<>();
+            for (ConstraintViolation<CreateStudentRequestDto> violation : validator.validate(requestDto)) {
+                errors.add(violation.getMessage());
+            }
+
+            // Within the batch, the first row claiming a student ID or email wins
+            if (requestDto.getStudentId() != null) {
+                Integer firstRow = firstRowByStudentId.putIfAbsent(requestDto.getStudentId(), rowNumber);
+                if (firstRow != null) {
+                    errors.add("Student ID '" + requestDto.getStudentId() + "' is already used by row " + firstRow + ".");
+                }
+            }
+            if (requestDto.getEmail() != null) {
+                Integer firstRow = firstRowByEmail.putIfAbsent(requestDto.getEmail(), rowNumber);
+                if (firstRow != null) {
+                    errors.add("Email '" + requestDto.getEmail() + "' is already used by row " + firstRow + ".");
+                }
+            }
+
+            Student student = validateImportRow(requestDto, referenceData, errors);
+            if (errors.isEmpty()) {
+                students.add(student);
+            } else {
+                rowErrors.add(new BulkImportRowErrorDto(rowNumber, requestDto.getStudentId(), errors));
+            }
+        }
+
+        studentRepository.insertAll(students);
+
+        log.info("Imported {} of {} students; {} rows were rejected.", students.size(), requestDtos.size(), rowErrors.size());
+        return new BulkImportResultDto(requestDtos.size(), students.size(), rowErrors.size(), rowErrors);
+    }
+
+    /**
+     * Loads the existing data needed to validate a whole import batch with a handful of set-based
+     * queries, instead of the four lookups per row that {@link #addStudent(CreateStudentRequestDto)} makes.
+     */
+    private ImportReferenceData loadImportReferenceData(List<CreateStudentRequestDto> requestDtos) {
+        Set<String> studentIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<Long> departmentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (CreateStudentRequestDto requestDto : requestDtos) {
+            if (requestDto == null) {
+                continue;
+            }
+            addIfNotNull(studentIds, requestDto.getStudentId());
+            addIfNotNull(emails, requestDto.getEmail());
+            addIfNotNull(departmentIds, requestDto.getDepartmentId());
+            if (requestDto.getCourseIds() != null) {
+                requestDto.getCourseIds().forEach(courseId -> addIfNotNull(courseIds, courseId));
+            }
+        }
+
+        Set<String> existingStudentIds = new HashSet<>(findInChunks(studentIds, studentRepository::findExistingStudentIds));
+        Set<String> existingEmails = new HashSet<>(findInChunks(emails, studentRepository::findExistingEmails));
+        Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+        Map<Long, Course> courses = findInChunks(courseIds, courseRepository::findByIdInWithDepartment).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        return new ImportReferenceData(existingStudentIds, existingEmails, departments, courses);
+    }
+
+    /**
+     * Validates a single import row against the existing data, applying the same rules as
+     * {@link #validateStudentData(String, String, Long, List)}, and adds every violation to the given list.
+     *
+     * @return The new, not yet persisted, student for the row; only meaningful if no errors were added.
+     */
+    private Student validateImportRow(CreateStudentRequestDto requestDto, ImportReferenceData referenceData, List<String> errors) {
+        if (referenceData.existingStudentIds().contains(requestDto.getStudentId())) {
+            errors.add("A student with ID '" + requestDto.getStudentId() + "' already exists.");
+        }
+        if (referenceData.existingEmails().contains(requestDto.getEmail())) {
+            errors.add("Email '" + requestDto.getEmail() + "' is already in use by another student.");
+        }
+
+        Department department = null;
+        if (requestDto.getDepartmentId() != null) {
+            department = referenceData.departments().get(requestDto.getDepartmentId());
+            if (department == null) {
+                errors.add("Department with ID '" + requestDto.getDepartmentId() + "' does not exist.");
+            } else if (!department.isActive()) {
+                errors.add("Cannot assign student to an inactive department: " + department.getName());
+            }
+        }
+
+        Set<Course> courses = new HashSet<>();
+        if (!CollectionUtils.isEmpty(requestDto.getCourseIds())) {
+            List<Long> missingIds = new ArrayList<>();
+            for (Long courseId : requestDto.getCourseIds()) {
+                Course course = courseId == null ? null : referenceData.courses().get(courseId);
+                if (course == null) {
+                    missingIds.add(courseId);
+                    continue;
+                }
+                if (!course.isActive()) {
+                    errors.add("Course '" + course.getName() + "' is inactive and cannot be assigned.");
+                }
+                if (department != null && !course.getDepartment().getId().equals(department.getId())) {
+                    errors.add("Course '" + course.getName() + "' belongs to the '" + course.getDepartment().getName() + "' department, not the '" + department.getName() + "' department.");
+                }
+                courses.add(course);
+            }
+            if (!missingIds.isEmpty()) {
+                errors.add("The following course IDs do not exist: " + missingIds);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return null;
+        }
+        Student student = studentMapper.toEntity(requestDto);
+        student.setDepartment(department);
+        student.setCourses(courses);
+        student.setActive(true);
+        return student;
+    }
+
+    /**
+     * Runs an IN-clause query over a potentially large set of values in chunks of
+     * {@value #IMPORT_LOOKUP_CHUNK_SIZE}, and returns the combined results.
+     */
+    private static <T, R> List<R> findInChunks(Collection<T> values, Function<List<T>, List<R>> query) {
+        List<T> remaining = new ArrayList<>(values);
+        List<R> results = new ArrayList<>();
+        for (int from = 0; from < remaining.size(); from += IMPORT_LOOKUP_CHUNK_SIZE) {
+            results.addAll(query.apply(remaining.subList(from, Math.min(from + IMPORT_LOOKUP_CHUNK_SIZE, remaining.size()))));
+        }
+        return results;
+    }
+
+    private static <T> void addIfNotNull(Set<T> values, T value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
     @Override
     @Transactional
     public StudentResponseDto updateStudent(String studentId, UpdateStudentRequestDto requestDto) {
@@ -99,6 +366,9 @@ public class StudentServiceImpl implements StudentService {
         studentMapper.updateEntityFromDto(requestDto, existingStudent);
         existingStudent.setDepartment(validated.department());
         existingStudent.setCourses(validated.courses());
+        // A change of enrolments alone does not make the student dirty, so the audit timestamp,
+        // which versions the cached exports, would not move
+        existingStudent.setUpdatedAt(Instant.now());
 
         Student updatedStudent = studentRepository.save(existingStudent);
         log.info("Successfully updated student with studentId: {}", updatedStudent.getStudentId());
@@ -172,13 +442,82 @@ public class StudentServiceImpl implements StudentService {
         log.info("Fetching students page number: {}, page size: {}, filter: '{}', isActive: {}",
             pageable.getPageNumber(), pageable.getPageSize(), filter, isActive);
         
-        Specification<Student> spec = createSpecification(filter, isActive);
+        Specification<Student> spec = StudentSpecifications.matching(filter, isActive);
         Page<Student> studentPage = studentRepository.findAll(spec, pageable);
 
         log.info("Found {} students on page {}", studentPage.getNumberOfElements(), pageable.getPageNumber());
         return studentPage.map(studentMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<StudentResponseDto> getStudentsByCursor(String filter, Boolean isActive, String cursor, int size,
+            String sortBy, Sort.Direction sortDir) {
+        log.info("Fetching students by cursor, size: {}, sortBy: {}, sortDir: {}, filter: '{}', isActive: {}",
+            size, sortBy, sortDir, filter, isActive);
+
+        if (!CURSOR_SORT_KEYS.containsKey(sortBy)) {
+            throw new BusinessRuleException("Sorting by '" + sortBy + "' is not supported. Supported fields: " + CURSOR_SORT_KEYS.keySet());
+        }
+        if (size < 1) {
+            throw new BusinessRuleException("Page size must be at least 1.");
+        }
+
+        Specification<Student> spec = StudentSpecifications.matching(filter, isActive);
+        if (StringUtils.hasText(cursor)) {
+            StudentCursor position = StudentCursor.decode(cursor);
+            if (!position.sortBy().equals(sortBy) || position.direction() != sortDir) {
+                throw new BusinessRuleException("The pagination cursor was issued for a different sort order.");
+            }
+            spec = spec.and(seekPast(position));
+        }
+
+        // The ID breaks ties between equal sort keys, making the order unique
+        Sort sort = "id".equals(sortBy) ? Sort.by(sortDir, "id") : Sort.by(sortDir, sortBy).and(Sort.by(sortDir, "id"));
+        Slice<Student> slice = studentRepository.findSlice(spec, sort, size);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Student last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            String sortValue = String.valueOf(CURSOR_SORT_KEYS.get(sortBy).apply(last));
+            nextCursor = new StudentCursor(sortBy, sortDir, sortValue, last.getId()).encode();
+        }
+
+        log.info("Found {} students, hasNext: {}", slice.getNumberOfElements(), slice.hasNext());
+        List<StudentResponseDto> content = slice.getContent().stream().map(studentMapper::toDto).collect(Collectors.toList());
+        return new CursorPageDto<>(content, size, slice.hasNext(), nextCursor);
+    }
+
+    /**
+     * Creates the seek predicate of keyset pagination, matching only the students that come
+     * after the cursor position in the requested order:
+     * {@code sortKey > value OR (sortKey = value AND id > lastId)} for ascending order,
+     * and the mirrored comparison for descending order.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Specification<Student> seekPast(StudentCursor position) {
+        boolean ascending = position.direction().isAscending();
+        return (root, query, criteriaBuilder) -> {
+            Expression<Long> id = root.get("id");
+            Predicate afterId = ascending ? criteriaBuilder.greaterThan(id, position.id()) : criteriaBuilder.lessThan(id, position.id());
+            if ("id".equals(position.sortBy())) {
+                return afterId;
+            }
+            Expression<Comparable> sortKey = root.get(position.sortBy());
+            Comparable value = parseSortValue(position.sortBy(), position.sortValue());
+            Predicate afterSortKey = ascending ? criteriaBuilder.greaterThan(sortKey, value) : criteriaBuilder.lessThan(sortKey, value);
+            return criteriaBuilder.or(afterSortKey, criteriaBuilder.and(criteriaBuilder.equal(sortKey, value), afterId));
+        };
+    }
+
+    private Comparable<?> parseSortValue(String sortBy, String sortValue) {
+        try {
+            return "createdAt".equals(sortBy) ? Instant.parse(sortValue) : sortValue;
+        } catch (DateTimeParseException e) {
+            throw new BusinessRuleException("The pagination cursor is malformed.");
+        }
+    }
+
     @Override
     @Transactional
     public void softDeleteStudent(String studentId) {
@@ -201,22 +540,88 @@ public class StudentServiceImpl implements StudentService {
         return studentMapper.toDto(updatedStudent);
     }
     
+    @Override
+    @Transactional
+    public BulkStatusUpdateResultDto updateStudentsStatus(BulkStudentStatusRequestDto requestDto) {
+        boolean newStatus = requestDto.getNewStatus();
+        boolean byIds = !CollectionUtils.isEmpty(requestDto.getStudentIds());
+        boolean byFilter = StringUtils.hasText(requestDto.getFilter()) || requestDto.getIsActive() != null;
+        if (byIds == byFilter) {
+            throw new BusinessRuleException("Select the students either by their IDs or by a filter.");
+        }
+
+        Instant updatedAt = Instant.now();
+        BulkStatusUpdateResultDto result = byIds
+                ? updateStatusByStudentIds(requestDto.getStudentIds(), newStatus, updatedAt)
+                : updateStatusByFilter(requestDto.getFilter(), requestDto.getIsActive(), newStatus, updatedAt);
+        log.info("Bulk status update to {}: {} students matched, {} changed, {} IDs not found.", newStatus,
+                result.getMatchedCount(), result.getUpdatedCount(), result.getMissingStudentIds().size());
+        return result;
+    }
+
+    /**
+     * Updates the students with the given business IDs chunk by chunk, finding the IDs that do not
+     * exist with one lookup per chunk.
+     */
+    private BulkStatusUpdateResultDto updateStatusByStudentIds(List<String> studentIds, boolean newStatus, Instant updatedAt) {
+        List<String> distinctIds = studentIds.stream().filter(StringUtils::hasText).distinct().toList();
+        log.info("Attempting to set status to {} for {} students by ID.", newStatus, distinctIds.size());
+
+        int matched = 0;
+        int updated = 0;
+        List<String> missingIds = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<String> chunk = distinctIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, distinctIds.size()));
+            Set<String> existingIds = new HashSet<>(studentRepository.findExistingStudentIds(chunk));
+            chunk.stream().filter(id -> !existingIds.contains(id)).forEach(missingIds::add);
+            if (!existingIds.isEmpty()) {
+                matched += existingIds.size();
+                updated += studentRepository.updateActiveStatusByStudentIdIn(existingIds, newStatus, updatedAt);
+            }
+        }
+        return new BulkStatusUpdateResultDto(matched, updated, missingIds);
+    }
+
+    /**
+     * Updates the students matching the filter chunk by chunk, walking through their database IDs
+     * in ascending order so that each chunk seeks past the previous one.
+     */
+    private BulkStatusUpdateResultDto updateStatusByFilter(String filter, Boolean isActive, boolean newStatus, Instant updatedAt) {
+        log.info("Attempting to set status to {} for students matching filter: '{}', isActive: {}", newStatus, filter, isActive);
+        Specification<Student> spec = StudentSpecifications.matching(filter, isActive);
+
+        int matched = 0;
+        int updated = 0;
+        Long lastId = null;
+        List<Long> ids;
+        do {
+            ids = studentRepository.findIdsAfter(spec, lastId, STATUS_UPDATE_CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            matched += ids.size();
+            updated += studentRepository.updateActiveStatusByIdIn(ids, newStatus, updatedAt);
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == STATUS_UPDATE_CHUNK_SIZE);
+        return new BulkStatusUpdateResultDto(matched, updated, List.of());
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public void generateStudentsExcel(String filter, Boolean isActive, HttpServletResponse response) throws IOException {
+    public void generateStudentsExcel(String filter, Boolean isActive, OutputStream outputStream, ExportCancellation cancellation)
+            throws IOException {
         log.info("Generating Excel report with filter: '{}', isActive: {}", filter, isActive);
-        Specification<Student> spec = createSpecification(filter, isActive);
-        List<Student> students = studentRepository.findAll(spec, Sort.by("id"));
-        studentExportService.exportToExcel(students, response);
+        export(ExportFormat.XLSX, StudentSpecifications.matching(filter, isActive), outputStream, rowsRead -> {}, cancellation,
+                studentExportService::exportToExcel);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public void generateStudentsCsv(String filter, Boolean isActive, HttpServletResponse response) throws IOException {
-        log.info("Generating CSV report with filter: '{}', isActive: {}", filter, isActive);
-        Specification<Student> spec = createSpecification(filter, isActive);
-        List<Student> students = studentRepository.findAll(spec, Sort.by("id"));
-        studentExportService.exportToCsv(students, response);
+    public void generateStudentsCsv(String filter, Boolean isActive, boolean gzip, OutputStream outputStream,
+            ExportCancellation cancellation) throws IOException {
+        log.info("Generating CSV report with filter: '{}', isActive: {}, gzip: {}", filter, isActive, gzip);
+        export(ExportFormat.CSV, StudentSpecifications.matching(filter, isActive), outputStream, rowsRead -> {}, cancellation,
+                (students, output) -> studentExportService.exportToCsv(students, output, gzip));
     }
     
     private Student findStudentByBusinessId(String studentId) {
@@ -228,31 +633,93 @@ public class StudentServiceImpl implements StudentService {
                 });
     }
 
-    private Specification<Student> createSpecification(String filter, Boolean isActive) {
-        return (root, query, criteriaBuilder) -> {
-            List<Predicate> mainPredicates = new ArrayList<>();
-            if (isActive != null) {
-                mainPredicates.add(criteriaBuilder.equal(root.get("isActive"), isActive));
-            }
-            if (StringUtils.hasText(filter)) {
-                String pattern = "%" + filter.toLowerCase() + "%";
-                List<Predicate> searchPredicates = new ArrayList<>();
-                searchPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("studentId")), pattern));
-                searchPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("firstName")), pattern));
-                searchPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("lastName")), pattern));
-                searchPredicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("email")), pattern));
-                mainPredicates.add(criteriaBuilder.or(searchPredicates.toArray(new Predicate[0])));
-            }
-            return criteriaBuilder.and(mainPredicates.toArray(new Predicate[0]));
-        };
-    }
-    
     @Override
     @Transactional(readOnly = true)
-    public void generateStudentsPdf(String filter, Boolean isActive, HttpServletResponse response) throws IOException, JRException {
+    public void generateStudentsPdf(String filter, Boolean isActive, OutputStream outputStream, ExportCancellation cancellation)
+            throws IOException, JRException {
         log.info("Generating PDF report with filter: '{}', isActive: {}", filter, isActive);
-        Specification<Student> spec = createSpecification(filter, isActive);
-        List<Student> students = studentRepository.findAll(spec, Sort.by("id"));
-        studentExportService.exportToPdf(students, response);
+        Specification<Student> spec = StudentSpecifications.matching(filter, isActive);
+        export(ExportFormat.PDF, spec, outputStream, rowsRead -> {}, cancellation, pdfExporter(spec));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countStudents(String filter, Boolean isActive) {
+        return studentRepository.count(StudentSpecifications.matching(filter, isActive));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getExportDataVersion() {
+        return studentRepository.findExportDataVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportStudents(ExportFormat format, String filter, Boolean isActive, Long departmentId, OutputStream outputStream,
+            LongConsumer progressListener, ExportCancellation cancellation) throws IOException, JRException {
+        Specification<Student> spec = StudentSpecifications.matching(filter, isActive, departmentId);
+        switch (format) {
+            case XLSX -> export(format, spec, outputStream, progressListener, cancellation, studentExportService::exportToExcel);
+            case CSV -> export(format, spec, outputStream, progressListener, cancellation, studentExportService::exportToCsv);
+            case PDF -> export(format, spec, outputStream, progressListener, cancellation, pdfExporter(spec));
+        }
+    }
+
+    /**
+     * Returns a PDF exporter told how many students match the specification, so that it can
+     * decide whether to fill the report in memory or swap its pages out to disk.
+     */
+    private StudentExporter<JRException> pdfExporter(Specification<Student> spec) {
+        long expectedRows = studentRepository.count(spec);
+        return (students, outputStream) -> studentExportService.exportToPdf(students, expectedRows, outputStream);
+    }
+
+    /**
+     * Writes the students matching the specification with the given exporter, recording the
+     * rows and bytes written and the duration of the export.
+     * <p>
+     * Once cancelled, the export stops before reading the next student. A statement the export is
+     * blocked on, such as a fetch from the cursor, is cancelled right away from the cancelling thread.
+     * Either way the cursor is closed and the transaction ends, which returns the connection to the pool.
+     *
+     * @param exporter The {@link StudentExportService} method writing the format.
+     * @param <E>      The format-specific exception type of the exporter.
+     */
+    private <E extends Exception> void export(ExportFormat format, Specification<Student> spec, OutputStream outputStream,
+            LongConsumer progressListener, ExportCancellation cancellation, StudentExporter<E> exporter) throws IOException, E {
+        ExportMetrics.Recording recording = exportMetrics.start(format);
+        boolean success = false;
+        try (ExportCancellation.Registration statementCancellation = cancellation.onCancel(studentRepository.statementCanceller());
+                Stream<Student> students = streamStudents(spec, progressListener.andThen(recording), cancellation)) {
+            exporter.export(students, recording.countBytes(outputStream));
+            success = true;
+        } catch (Exception e) {
+            if (cancellation.isCancelled()) {
+                log.info("{} export cancelled before it completed.", format);
+                // A cancelled statement fails with a database error, which may also be wrapped by the exporter
+                throw e instanceof ExportAbortedException aborted ? aborted
+                        : new ExportAbortedException("The export was cancelled before it completed.", e);
+            }
+            throw e;
+        } finally {
+            recording.stop(success);
+        }
+    }
+
+    /**
+     * Opens a database cursor over the students matching the specification, ordered by ID.
+     * The returned stream must be closed by the caller.
+     *
+     * @param progressListener Notified with the number of students read so far, as each student is read.
+     * @param cancellation     Checked before each student is handed out.
+     */
+    private Stream<Student> streamStudents(Specification<Student> spec, LongConsumer progressListener, ExportCancellation cancellation) {
+        AtomicLong rowsRead = new AtomicLong();
+        return studentRepository.streamAll(spec, Sort.by("id"))
+                .peek(student -> {
+                    cancellation.throwIfCancelled();
+                    progressListener.accept(rowsRead.incrementAndGet());
+                });
     }
 }
\ No newline at end of file
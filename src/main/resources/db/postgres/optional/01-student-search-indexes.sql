@@ -0,0 +1,12 @@
+-- Trigram indexes backing the student search filter.
+-- The filter matches lower(column) LIKE '%term%' on each of these columns; a GIN index with
+-- gin_trgm_ops on the same lower(column) expression lets PostgreSQL answer these substring
+-- matches with a bitmap index scan instead of a sequential scan over the whole table.
+-- Every statement is idempotent, this script runs at each application start.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_students_student_id_trgm ON students USING gin (lower(student_id) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_first_name_trgm ON students USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_trgm ON students USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_email_trgm ON students USING gin (lower(email) gin_trgm_ops);
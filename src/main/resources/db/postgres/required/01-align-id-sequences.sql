@@ -0,0 +1,6 @@
+-- Entity identifiers are allocated from pooled sequences (blocks of 50). Tables created before the
+-- switch from identity columns already hold rows, so move each sequence past the highest existing ID.
+-- GREATEST keeps the sequence where it is if it is already ahead, which makes the script safe to re-run.
+SELECT setval('students_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM students), (SELECT last_value FROM students_seq)));
+SELECT setval('courses_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM courses), (SELECT last_value FROM courses_seq)));
+SELECT setval('departments_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM departments), (SELECT last_value FROM departments_seq)));
@@ -0,0 +1,121 @@
+package com.aurionpro.studentmanagement.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Measures the throughput and latency of the read endpoints of the student, department and course
+ * APIs under concurrent traffic, against the application started on a random port with the in-memory
+ * H2 database of the test profile. This is the baseline to compare optimizations against.
+ * <p>
+ * All endpoints are driven at the same time, each by its own clients. Requests pick a random
+ * department, course page or search term, so that the caches do not answer every request. The results
+ * are printed and written to {@code target/benchmark/end-to-end-load.csv}. Run with:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=EndToEndLoadTest
+ * </pre>
+ * The seeded volumes can be changed with {@code -Dbenchmark.e2e.departments}, {@code -Dbenchmark.e2e.courses},
+ * {@code -Dbenchmark.e2e.students} and {@code -Dbenchmark.e2e.enrolments-per-student}, and the traffic with
+ * {@code -Dbenchmark.e2e.clients-per-endpoint} and {@code -Dbenchmark.e2e.seconds}. Seeding a million students
+ * with their enrolments into the in-memory database needs a heap of several gigabytes, which the benchmark
+ * profile provides.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndToEndLoadTest {
+
+    private static final BenchmarkDataSeeder.Volumes VOLUMES = new BenchmarkDataSeeder.Volumes(
+            Integer.getInteger("benchmark.e2e.departments", 50),
+            Integer.getInteger("benchmark.e2e.courses", 2_000),
+            Integer.getInteger("benchmark.e2e.students", 1_000_000),
+            Integer.getInteger("benchmark.e2e.enrolments-per-student", 3));
+    private static final int CLIENTS_PER_ENDPOINT = Integer.getInteger("benchmark.e2e.clients-per-endpoint", 8);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.e2e.seconds", 60));
+    private static final Duration WARMUP = Duration.ofSeconds(15);
+
+    private static final Path REPORT = Path.of("target", "benchmark", "end-to-end-load.csv");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedDatabase() {
+        long start = System.nanoTime();
+        BenchmarkDataSeeder.seed(jdbcTemplate, VOLUMES);
+        System.out.printf("Seeded %s in %.1f s%n", VOLUMES, (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    @Test
+    void readEndpointsUnderConcurrentLoad() throws IOException {
+        List<LoadDriver.Scenario> scenarios = List.of(
+                scenario("students-page", () -> "/api/v1/students?page=" + random(100) + "&size=20&sortBy=lastName"),
+                scenario("students-search", () -> "/api/v1/students?filter=last" + random(VOLUMES.students()) + "&size=20"),
+                scenario("students-scroll", () -> "/api/v1/students/scroll?isActive=true&size=20&sortBy=firstName"),
+                scenario("departments-page", () -> "/api/v1/departments?page=" + random(5) + "&size=10"),
+                scenario("departments-active", () -> "/api/v1/departments/active"),
+                scenario("department-detail", () -> "/api/v1/departments/" + randomDepartmentId()),
+                scenario("courses-by-dept", () -> "/api/v1/courses?departmentId=" + randomDepartmentId()),
+                scenario("courses-page", () -> "/api/v1/courses/paged?page=" + random(VOLUMES.courses() / 20) + "&size=20"));
+
+        Map<String, LoadDriver.Result> results = new LoadDriver(port).run(scenarios, WARMUP, MEASUREMENT);
+
+        results.values().forEach(System.out::println);
+        writeReport(results);
+
+        assertThat(results.values()).allSatisfy(result -> {
+            assertThat(result.requests()).as(result.name()).isPositive();
+            assertThat(result.errors()).as(result.name()).isZero();
+        });
+    }
+
+    private static LoadDriver.Scenario scenario(String name, Supplier<String> paths) {
+        return new LoadDriver.Scenario(name, CLIENTS_PER_ENDPOINT, paths);
+    }
+
+    private static long randomDepartmentId() {
+        return BenchmarkDataSeeder.DEPARTMENT_ID + random(VOLUMES.departments());
+    }
+
+    private static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(Math.max(1, bound));
+    }
+
+    private static void writeReport(Map<String, LoadDriver.Result> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,throughput_per_second,p50_ms,p99_ms,p999_ms,max_ms");
+        for (LoadDriver.Result result : results.values()) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f", result.name(),
+                    result.requests(), result.errors(), result.throughputPerSecond(),
+                    result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis()));
+        }
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, lines);
+    }
+}
@@ -0,0 +1,147 @@
+package com.aurionpro.studentmanagement.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.aurionpro.studentmanagement.dto.request.CourseNestedDto;
+import com.aurionpro.studentmanagement.dto.request.CreateDepartmentRequestDto;
+import com.aurionpro.studentmanagement.dto.request.CreateStudentRequestDto;
+import com.aurionpro.studentmanagement.dto.response.BulkImportResultDto;
+import com.aurionpro.studentmanagement.dto.response.DepartmentDto;
+import com.aurionpro.studentmanagement.service.DepartmentService;
+import com.aurionpro.studentmanagement.service.StudentService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Measures the insert throughput of department-with-courses creation and of bulk student creation
+ * against PostgreSQL, and checks that new rows are written in JDBC batches.
+ * <p>
+ * With identity columns, creating a department with 40 courses took 42 statements (the name check
+ * and one INSERT per row) and importing students took at least one INSERT per student. With pooled
+ * sequences, each creation takes a handful of statements. Run with:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=IdGenerationBenchmarkTest \
+ *     -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/studentdb_bench?reWriteBatchedInserts=true \
+ *     -Dbenchmark.postgres.username=postgres -Dbenchmark.postgres.password=postgres
+ * </pre>
+ * The workload can be changed with {@code -Dbenchmark.insert.departments},
+ * {@code -Dbenchmark.insert.courses-per-department} and {@code -Dbenchmark.insert.students}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IdGenerationBenchmarkTest {
+
+    private static final int DEPARTMENTS = Integer.getInteger("benchmark.insert.departments", 200);
+    private static final int COURSES_PER_DEPARTMENT = Integer.getInteger("benchmark.insert.courses-per-department", 40);
+    private static final int STUDENTS = Integer.getInteger("benchmark.insert.students", 50_000);
+    private static final int WARMUP_DEPARTMENTS = 20;
+
+    /** Distinguishes the rows of this run from those of earlier runs against the same database. */
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36).toUpperCase();
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void benchmarkDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.postgres.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.postgres.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.postgres.password", "postgres"));
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @BeforeAll
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void departmentWithCoursesIsCreatedInBatches() {
+        for (int i = 0; i < WARMUP_DEPARTMENTS; i++) {
+            departmentService.addDepartment(newDepartment("WARMUP_" + RUN_ID + "_" + i));
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departmentService.addDepartment(newDepartment("BENCH_" + RUN_ID + "_" + i));
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double statementsPerDepartment = (double) statistics.getPrepareStatementCount() / DEPARTMENTS;
+        System.out.printf("Created %d departments with %d courses each: %.1f departments/s, %.1f statements per department%n",
+                DEPARTMENTS, COURSES_PER_DEPARTMENT, DEPARTMENTS / seconds, statementsPerDepartment);
+
+        // the name check, the department INSERT, one course INSERT batch and occasional sequence calls
+        assertThat(statementsPerDepartment).isLessThan(6);
+    }
+
+    @Test
+    void bulkStudentImportIsInsertedInBatches() {
+        CreateDepartmentRequestDto departmentRequest = newDepartment("IMPORT_" + RUN_ID);
+        DepartmentDto department = departmentService.addDepartment(departmentRequest);
+
+        List<CreateStudentRequestDto> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            CreateStudentRequestDto student = new CreateStudentRequestDto();
+            student.setStudentId("IMP" + RUN_ID + "-" + i);
+            student.setFirstName("First" + i);
+            student.setLastName("Last" + i);
+            student.setEmail("import" + RUN_ID.toLowerCase() + "." + i + "@example.com");
+            student.setDepartmentId(department.getId());
+            students.add(student);
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        BulkImportResultDto result = studentService.importStudents(students);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double statementsPerStudent = (double) statistics.getPrepareStatementCount() / STUDENTS;
+        System.out.printf("Imported %d students in %.2f s: %.0f students/s, %.3f statements per student%n",
+                STUDENTS, seconds, STUDENTS / seconds, statementsPerStudent);
+
+        assertThat(result.getImportedCount()).isEqualTo(STUDENTS);
+        assertThat(statementsPerStudent).isLessThan(0.1);
+    }
+
+    private CreateDepartmentRequestDto newDepartment(String name) {
+        List<CourseNestedDto> courses = new ArrayList<>(COURSES_PER_DEPARTMENT);
+        for (int c = 0; c < COURSES_PER_DEPARTMENT; c++) {
+            CourseNestedDto course = new CourseNestedDto();
+            course.setName(name + " Course " + c);
+            course.setDescription("Benchmark course " + c);
+            courses.add(course);
+        }
+        CreateDepartmentRequestDto request = new CreateDepartmentRequestDto();
+        request.setName(name);
+        request.setCourses(courses);
+        return request;
+    }
+}
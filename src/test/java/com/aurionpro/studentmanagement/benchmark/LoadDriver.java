@@ -0,0 +1,154 @@
+package com.aurionpro.studentmanagement.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A small closed-loop HTTP load generator for the benchmark suites.
+ * <p>
+ * Each scenario is driven by a fixed number of clients, each running on its own virtual thread and
+ * sending requests back to back. Requests completed during the warm-up period are discarded; for the
+ * measurement period, the latency of every request is recorded and summarized as percentiles.
+ * Responses with a status of 400 or above, and requests failing with an I/O error, count as errors.
+ */
+final class LoadDriver {
+
+    /**
+     * A stream of GET requests sent by a number of concurrent clients.
+     *
+     * @param name    The name under which the results are reported.
+     * @param clients The number of concurrent clients.
+     * @param paths   Supplies the path and query of each request, relative to the server root. Called
+     *                concurrently by all clients, e.g. to pick a random entity for every request.
+     */
+    record Scenario(String name, int clients, Supplier<String> paths) {
+
+        /**
+         * Creates a scenario sending identical requests to a single path.
+         */
+        Scenario(String name, int clients, String path) {
+            this(name, clients, () -> path);
+        }
+    }
+
+    /**
+     * The latency distribution of a scenario's requests during the measurement period.
+     */
+    record Result(String name, long requests, long errors, double throughputPerSecond,
+            double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-20s requests=%7d errors=%5d throughput=%8.1f/s p50=%8.2f ms p99=%8.2f ms p99.9=%8.2f ms max=%8.2f ms",
+                    name, requests, errors, throughputPerSecond, p50Millis, p99Millis, p999Millis, maxMillis);
+        }
+    }
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+
+    LoadDriver(int port) {
+        this.baseUri = URI.create("http://localhost:" + port);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Runs all scenarios concurrently for the warm-up and then the measurement period.
+     *
+     * @param scenarios   The scenarios to run.
+     * @param warmup      How long to run before recording latencies.
+     * @param measurement How long to record latencies for.
+     * @return The results of each scenario, keyed and ordered by scenario name.
+     */
+    Map<String, Result> run(List<Scenario> scenarios, Duration warmup, Duration measurement) {
+        long measurementStart = System.nanoTime() + warmup.toNanos();
+        long measurementEnd = measurementStart + measurement.toNanos();
+
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Scenario scenario : scenarios) {
+                Recorder recorder = new Recorder();
+                recorders.put(scenario.name(), recorder);
+                for (int i = 0; i < scenario.clients(); i++) {
+                    clients.submit(() -> drive(scenario.paths(), recorder, measurementStart, measurementEnd));
+                }
+            }
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> results.put(name, recorder.summarize(name, measurement)));
+        return results;
+    }
+
+    private void drive(Supplier<String> paths, Recorder recorder, long measurementStart, long measurementEnd) {
+        while (System.nanoTime() < measurementEnd) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(paths.get()))
+                    .timeout(Duration.ofMinutes(2))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long end = System.nanoTime();
+            if (start >= measurementStart && end <= measurementEnd) {
+                recorder.record(end - start, success);
+            }
+        }
+    }
+
+    /**
+     * Collects the latencies of one scenario from all of its clients.
+     */
+    private static final class Recorder {
+
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, boolean success) {
+            latencies.add(latencyNanos);
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        Result summarize(String name, Duration measurement) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            double seconds = measurement.toMillis() / 1000.0;
+            return new Result(name, sorted.length, errors.sum(), sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
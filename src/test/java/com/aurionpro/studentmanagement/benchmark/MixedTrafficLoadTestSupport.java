@@ -0,0 +1,79 @@
+package com.aurionpro.studentmanagement.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Measures the latency of the student listing while CSV exports run alongside it, against the
+ * application started on a random port with the in-memory test database.
+ * <p>
+ * The subclasses run the same traffic with request handling on Tomcat's platform thread pool and
+ * on virtual threads; compare the printed p99 of the {@code list} scenario between the two. Export
+ * requests beyond {@code app.export.max-concurrent-downloads} are rejected with 429 by design, and
+ * show up as errors of the {@code export-csv} scenario. Run with:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest='*ThreadsLoadTest'
+ * </pre>
+ * The workload can be changed with {@code -Dbenchmark.load.students}, {@code -Dbenchmark.load.list-clients},
+ * {@code -Dbenchmark.load.export-clients} and {@code -Dbenchmark.load.seconds}, and the platform thread pool
+ * with {@code -Dserver.tomcat.threads.max}.
+ */
+@Tag("benchmark")
+// The export cache would serve every export after the first one without a database connection
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.export.cache.enabled=false")
+@ActiveProfiles("test")
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class MixedTrafficLoadTestSupport {
+
+    private static final int STUDENTS = Integer.getInteger("benchmark.load.students", 50_000);
+    private static final int LIST_CLIENTS = Integer.getInteger("benchmark.load.list-clients", 64);
+    private static final int EXPORT_CLIENTS = Integer.getInteger("benchmark.load.export-clients", 8);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.load.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @BeforeAll
+    void seedStudents() {
+        BenchmarkDataSeeder.seedStudents(jdbcTemplate, STUDENTS);
+    }
+
+    @Test
+    void listLatencyUnderExportTraffic() {
+        List<LoadDriver.Scenario> scenarios = List.of(
+                new LoadDriver.Scenario("list", LIST_CLIENTS, "/api/v1/students?page=0&size=20&sortBy=lastName"),
+                new LoadDriver.Scenario("export-csv", EXPORT_CLIENTS, "/api/v1/students/download/csv?isActive=true"));
+
+        Map<String, LoadDriver.Result> results = new LoadDriver(port).run(scenarios, WARMUP, MEASUREMENT);
+
+        String mode = virtualThreads ? "virtual threads" : "platform threads";
+        results.values().forEach(result -> System.out.printf("[%s] %s%n", mode, result));
+
+        LoadDriver.Result list = results.get("list");
+        assertThat(list.requests()).isPositive();
+        assertThat(list.errors()).isZero();
+    }
+}
@@ -0,0 +1,129 @@
+package com.aurionpro.studentmanagement.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.aurionpro.studentmanagement.service.StudentService;
+
+/**
+ * Measures the latency of the filtered student listing against a PostgreSQL database seeded with
+ * a million students, and checks that the search predicates are served by the trigram indexes.
+ * <p>
+ * Requires a disposable PostgreSQL database with the pg_trgm extension available. Run with:
+ * <pre>
+ * mvn test -Pbenchmark -Dtest=StudentSearchBenchmarkTest \
+ *     -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/studentdb_bench \
+ *     -Dbenchmark.postgres.username=postgres -Dbenchmark.postgres.password=postgres
+ * </pre>
+ * The student count and the latency budget can be changed with {@code -Dbenchmark.search.students}
+ * and {@code -Dbenchmark.search.max-p99-ms}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StudentSearchBenchmarkTest {
+
+    private static final int STUDENTS = Integer.getInteger("benchmark.search.students", 1_000_000);
+    private static final long MAX_P99_MILLIS = Long.getLong("benchmark.search.max-p99-ms", 20);
+    private static final int WARMUP_ITERATIONS = 100;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentService studentService;
+
+    @DynamicPropertySource
+    static void benchmarkDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.postgres.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.postgres.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.postgres.password", "postgres"));
+        registry.add("spring.jpa.show-sql", () -> "false");
+    }
+
+    @BeforeAll
+    void seedStudents() {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM students", Long.class);
+        if (existing != null && existing == STUDENTS) {
+            return;
+        }
+        jdbcTemplate.execute("TRUNCATE students, student_courses");
+        jdbcTemplate.update("INSERT INTO departments (id, name, is_active) VALUES (900001, 'BENCHMARK', true) ON CONFLICT DO NOTHING");
+        jdbcTemplate.update("""
+                INSERT INTO students (id, student_id, first_name, last_name, email, department_id, is_active, created_at, updated_at)
+                SELECT g,
+                       'STU' || lpad(g::text, 8, '0'),
+                       (ARRAY['Aarav','Nilesh','Priya','Rahul','Sneha','Vikram','Ananya','Rohan','Kavya','Arjun'])[1 + g % 10],
+                       (ARRAY['Gawli','Sharma','Patel','Iyer','Khan','Das','Rao','Mehta'])[1 + g % 8] || '-' || substr(md5(g::text), 1, 8),
+                       'student' || g || '@example.com',
+                       900001, g % 7 <> 0, now(), now()
+                FROM generate_series(1, ?) AS g
+                """, STUDENTS);
+        jdbcTemplate.execute("ANALYZE students");
+    }
+
+    @Test
+    void searchPredicatesUseTrigramIndexes() {
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM students WHERE lower(first_name) LIKE '%4f2a9c%' OR lower(last_name) LIKE '%4f2a9c%'"
+                        + " OR lower(student_id) LIKE '%4f2a9c%' OR lower(email) LIKE '%4f2a9c%'", String.class);
+        String joinedPlan = String.join("\n", plan);
+
+        assertThat(joinedPlan).as("query plan:%n%s", joinedPlan).contains("idx_students_first_name_trgm", "idx_students_last_name_trgm",
+                "idx_students_student_id_trgm", "idx_students_email_trgm");
+        assertThat(joinedPlan).as("query plan:%n%s", joinedPlan).doesNotContain("Seq Scan on students");
+    }
+
+    @Test
+    void filteredListingStaysWithinLatencyBudget() {
+        Random random = new Random(42);
+        List<String> filters = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int id = 1 + random.nextInt(STUDENTS);
+            String hash = jdbcTemplate.queryForObject("SELECT substr(md5(?::text), 1, 6)", String.class, id);
+            filters.add(hash);
+            filters.add("STU" + String.format("%08d", id).substring(0, 6));
+            filters.add("student" + id + "@");
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            search(filters.get(i % filters.size()));
+        }
+        long[] latencies = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search(filters.get(random.nextInt(filters.size())));
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+        double p50 = latencies[MEASURED_ITERATIONS / 2] / 1_000_000.0;
+        double p99 = latencies[(int) (MEASURED_ITERATIONS * 0.99)] / 1_000_000.0;
+        System.out.printf("Filtered listing over %d students: p50 = %.2f ms, p99 = %.2f ms%n", STUDENTS, p50, p99);
+
+        assertThat(p99).isLessThan(MAX_P99_MILLIS);
+    }
+
+    private void search(String filter) {
+        studentService.getAllStudents(filter, null, PageRequest.of(0, 10, Sort.by("firstName")));
+    }
+}
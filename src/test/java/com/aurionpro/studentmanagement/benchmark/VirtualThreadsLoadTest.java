@@ -0,0 +1,10 @@
+package com.aurionpro.studentmanagement.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the mixed list and export traffic with requests handled on virtual threads.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsLoadTest extends MixedTrafficLoadTestSupport {
+}
@@ -0,0 +1,36 @@
+package com.aurionpro.studentmanagement.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that {@link AcceptEncoding} only accepts gzip when the header lists it, or {@code *},
+ * with a quality above 0.
+ */
+class AcceptEncodingTest {
+
+    @Test
+    void gzipWithPositiveQualityIsAccepted() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("deflate, GZIP;q=0.5, br")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("x-gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br;q=1.0, *;q=0.1")).isTrue();
+    }
+
+    @Test
+    void gzipWithZeroQualityIsRefused() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip ; q=0.000, *")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void unlistedOrMalformedGzipIsRefused() {
+        assertThat(AcceptEncoding.acceptsGzip(null)).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("identity, br")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzipped")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=high")).isFalse();
+    }
+}
@@ -0,0 +1,87 @@
+package com.aurionpro.studentmanagement.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the RFC 4180 quoting and the UTF-8 encoding of the {@link CsvWriter}.
+ */
+class CsvWriterTest {
+
+    @Test
+    void quotesOnlyFieldsThatNeedIt() throws IOException {
+        String csv = write(false, CsvWriter.DEFAULT_BUFFER_SIZE, writer -> writer
+                .record("plain", "with,comma", "with \"quotes\"", "two\nlines", null, ""));
+
+        assertThat(csv).isEqualTo("plain,\"with,comma\",\"with \"\"quotes\"\"\",\"two\nlines\",,\r\n");
+    }
+
+    @Test
+    void joinedFieldIsQuotedWhenAnyValueOrTheSeparatorNeedsIt() throws IOException {
+        String csv = write(false, CsvWriter.DEFAULT_BUFFER_SIZE, writer -> writer
+                .joinedField(List.of("Math", "Physics"), Function.identity(), "; ")
+                .joinedField(List.of("Art, Modern", "Music"), Function.identity(), "; ")
+                .joinedField(List.of("A", "B"), Function.identity(), ",")
+                .joinedField(List.of(), Function.identity(), ",")
+                .endRecord());
+
+        assertThat(csv).isEqualTo("Math; Physics,\"Art, Modern; Music\",\"A,B\",\r\n");
+    }
+
+    @Test
+    void encodesUtf8AcrossBufferBoundaries() throws IOException {
+        String text = "Zo\u00eb \u00c5str\u00f6m \u65e5\u672c\u8a9e \uD83D\uDE00 \"q\"".repeat(50);
+
+        // A buffer this small forces a drain within almost every field
+        String csv = write(false, 7, writer -> writer.record(text, "\u00e9"));
+
+        assertThat(csv).isEqualTo("\"" + text.replace("\"", "\"\"") + "\",\u00e9\r\n");
+    }
+
+    @Test
+    void replacesUnpairedSurrogates() throws IOException {
+        String csv = write(false, CsvWriter.DEFAULT_BUFFER_SIZE, writer -> writer.record("a\uD800b"));
+
+        assertThat(csv).isEqualTo("a?b\r\n");
+    }
+
+    @Test
+    void compressesWithGzip() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (CsvWriter writer = new CsvWriter(outputStream, true)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.record("S" + i, "Student " + i);
+            }
+        }
+
+        byte[] compressed = outputStream.toByteArray();
+        String csv;
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            csv = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).startsWith("S0,Student 0\r\n").endsWith("S9999,Student 9999\r\n");
+        assertThat(compressed.length).isLessThan(csv.length() / 3);
+    }
+
+    @FunctionalInterface
+    private interface WriterAction {
+        void accept(CsvWriter writer) throws IOException;
+    }
+
+    private static String write(boolean gzip, int bufferSize, WriterAction action) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (CsvWriter writer = new CsvWriter(outputStream, gzip, bufferSize)) {
+            action.accept(writer);
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
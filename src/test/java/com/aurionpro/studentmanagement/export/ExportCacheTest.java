@@ -0,0 +1,99 @@
+package com.aurionpro.studentmanagement.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.sf.jasperreports.engine.JRException;
+
+/**
+ * Verifies that the {@link ExportCache} serves completed exports again, discards failed ones and
+ * evicts the least recently used files beyond its size limit.
+ */
+class ExportCacheTest {
+
+    private static final int FILE_SIZE = 400 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private ExportCache cache;
+
+    @BeforeEach
+    void createCache() throws IOException {
+        // room for two files of FILE_SIZE, but not three
+        cache = new ExportCache(true, directory.toString(), 1, new SimpleMeterRegistry());
+        cache.initializeDirectory();
+    }
+
+    @Test
+    void completedExportIsServedAgainUntilTheDataVersionChanges() throws Exception {
+        ExportCacheKey key = key("v1");
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+
+        cache.writeThrough(key, response, outputStream -> outputStream.write(content('a')));
+
+        assertThat(response.toByteArray()).isEqualTo(content('a'));
+        assertThat(read(cache.open(key))).isEqualTo(content('a'));
+        assertThat(cache.open(new ExportCacheKey(ExportFormat.CSV, false, " Active ", true, "v1"))).isPresent();
+        assertThat(cache.open(key("v2"))).isEmpty();
+    }
+
+    @Test
+    void failedExportIsNotCached() throws IOException {
+        ExportCacheKey key = key("v1");
+
+        assertThatThrownBy(() -> cache.writeThrough(key, new ByteArrayOutputStream(), outputStream -> {
+            outputStream.write(content('a'));
+            throw new JRException("fill failed");
+        })).isInstanceOf(JRException.class);
+
+        assertThat(cache.open(key)).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void leastRecentlyUsedExportIsEvictedBeyondTheSizeLimit() throws Exception {
+        cache.writeThrough(key("v1"), new ByteArrayOutputStream(), outputStream -> outputStream.write(content('a')));
+        cache.writeThrough(key("v2"), new ByteArrayOutputStream(), outputStream -> outputStream.write(content('b')));
+        // reading v1 makes v2 the least recently used
+        read(cache.open(key("v1")));
+
+        cache.writeThrough(key("v3"), new ByteArrayOutputStream(), outputStream -> outputStream.write(content('c')));
+
+        assertThat(cache.open(key("v2"))).isEmpty();
+        assertThat(read(cache.open(key("v1")))).isEqualTo(content('a'));
+        assertThat(read(cache.open(key("v3")))).isEqualTo(content('c'));
+    }
+
+    private static ExportCacheKey key(String dataVersion) {
+        return new ExportCacheKey(ExportFormat.CSV, false, "active", true, dataVersion);
+    }
+
+    private static byte[] content(char fill) {
+        byte[] content = new byte[FILE_SIZE];
+        Arrays.fill(content, (byte) fill);
+        return content;
+    }
+
+    private static byte[] read(Optional<InputStream> cached) throws IOException {
+        assertThat(cached).isPresent();
+        try (InputStream inputStream = cached.get()) {
+            return inputStream.readAllBytes();
+        }
+    }
+}
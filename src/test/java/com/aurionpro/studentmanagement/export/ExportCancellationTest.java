@@ -0,0 +1,54 @@
+package com.aurionpro.studentmanagement.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.aurionpro.studentmanagement.exception.ExportAbortedException;
+
+/**
+ * Verifies that an {@link ExportCancellation} runs each registered action at most once and stops
+ * the export at its next check.
+ */
+class ExportCancellationTest {
+
+    @Test
+    void cancelRunsRegisteredActionsOnce() {
+        ExportCancellation cancellation = new ExportCancellation();
+        AtomicInteger runs = new AtomicInteger();
+        cancellation.onCancel(runs::incrementAndGet);
+
+        cancellation.cancel();
+        cancellation.cancel();
+
+        assertThat(runs).hasValue(1);
+        assertThatThrownBy(cancellation::throwIfCancelled).isInstanceOf(ExportAbortedException.class);
+    }
+
+    @Test
+    void actionRegisteredAfterCancelRunsRightAway() {
+        ExportCancellation cancellation = new ExportCancellation();
+        cancellation.cancel();
+        AtomicInteger runs = new AtomicInteger();
+
+        cancellation.onCancel(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void closedRegistrationIsNotRun() {
+        ExportCancellation cancellation = new ExportCancellation();
+        AtomicInteger runs = new AtomicInteger();
+        try (ExportCancellation.Registration registration = cancellation.onCancel(runs::incrementAndGet)) {
+            cancellation.throwIfCancelled();
+        }
+
+        cancellation.cancel();
+
+        assertThat(runs).hasValue(0);
+    }
+}
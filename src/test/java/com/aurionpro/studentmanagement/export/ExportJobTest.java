@@ -0,0 +1,42 @@
+package com.aurionpro.studentmanagement.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that an expired {@link ExportJob} is kept while its file is being downloaded,
+ * and that no download starts once it has been removed.
+ */
+class ExportJobTest {
+
+    @Test
+    void expiredJobIsKeptUntilItsDownloadFinishes() {
+        ExportJob job = completedJob();
+        Instant afterExpiry = job.getExpiresAt().plusSeconds(1);
+
+        assertThat(job.startDownload()).isTrue();
+        assertThat(job.removeIfExpired(afterExpiry)).isFalse();
+
+        job.finishDownload();
+        assertThat(job.removeIfExpired(afterExpiry)).isTrue();
+        assertThat(job.startDownload()).isFalse();
+    }
+
+    @Test
+    void jobIsNotRemovedBeforeItExpires() {
+        ExportJob job = completedJob();
+
+        assertThat(job.removeIfExpired(job.getExpiresAt().minusSeconds(1))).isFalse();
+        assertThat(job.startDownload()).isTrue();
+    }
+
+    private static ExportJob completedJob() {
+        ExportJob job = new ExportJob("job-1", ExportFormat.CSV, null, null);
+        job.markCompleted(Path.of("job-1.csv"), Instant.now().plusSeconds(60));
+        return job;
+    }
+}
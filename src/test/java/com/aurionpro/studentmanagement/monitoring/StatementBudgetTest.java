@@ -0,0 +1,122 @@
+package com.aurionpro.studentmanagement.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.exception.StatementBudgetExceededException;
+import com.aurionpro.studentmanagement.repository.DepartmentRepository;
+import com.aurionpro.studentmanagement.repository.StudentRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Verifies that the statements of a request are counted against the budget of its controller method,
+ * and that exceeding the budget fails when {@code app.monitoring.statement-budget.fail-on-exceed} is
+ * enabled, as it is in the test profile.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class StatementBudgetTest {
+
+    private static final int STUDENT_COUNT = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RequestStatementCounter statementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seedStudents() {
+        for (int d = 0; d < 3; d++) {
+            Department department = new Department();
+            department.setName("BUDGET_" + d);
+            entityManager.persist(department);
+            Course course = new Course();
+            course.setName("Budget Course " + d);
+            course.setDepartment(department);
+            entityManager.persist(course);
+            for (int i = 0; i < STUDENT_COUNT / 3; i++) {
+                Student student = new Student();
+                student.setStudentId("BUD" + d + "-" + i);
+                student.setFirstName("First" + i);
+                student.setLastName("Last" + i);
+                student.setEmail("budget" + d + "." + i + "@example.com");
+                student.setDepartment(department);
+                student.getCourses().add(course);
+                entityManager.persist(student);
+            }
+        }
+        // Start the requests with an empty persistence context, so that lazy associations are loaded
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void studentPageStaysWithinItsDeclaredBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/students").param("size", String.valueOf(STUDENT_COUNT)))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("app.http.statements")
+                .tag("handler", "StudentController.getAllStudents")
+                .summary();
+        assertThat(statements.count()).isPositive();
+        assertThat(statements.max()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void departmentDetailStaysWithinItsDeclaredBudget() throws Exception {
+        Long departmentId = departmentRepository.findAll().get(0).getId();
+        entityManager.clear();
+
+        mockMvc.perform(get("/api/v1/departments/{departmentId}", departmentId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void statementsBeyondTheBudgetFail() {
+        statementCounter.start("StatementBudgetTest", 2);
+        try {
+            studentRepository.count();
+            departmentRepository.count();
+            Throwable thrown = catchThrowable(studentRepository::count);
+
+            assertThat(NestedExceptionUtils.getMostSpecificCause(thrown))
+                    .isInstanceOf(StatementBudgetExceededException.class)
+                    .hasMessageContaining("StatementBudgetTest");
+        } finally {
+            statementCounter.stop();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.aurionpro.studentmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+
+/**
+ * Verifies that bulk inserts of students are sent to the database in JDBC batches,
+ * rather than one statement per student and enrolment.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class StudentRepositoryBatchInsertTest {
+
+    private static final int STUDENT_COUNT = 1_200;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void insertAllSendsStatementsInBatches() {
+        Department department = new Department();
+        department.setName("DEPARTMENT");
+        entityManager.persist(department);
+        Course course = new Course();
+        course.setName("Course");
+        course.setDepartment(department);
+        entityManager.persist(course);
+        entityManager.flush();
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = new Student();
+            student.setStudentId("S" + i);
+            student.setFirstName("First" + i);
+            student.setLastName("Last" + i);
+            student.setEmail("student" + i + "@example.com");
+            student.setDepartment(department);
+            student.getCourses().add(course);
+            students.add(student);
+        }
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        studentRepository.insertAll(students);
+
+        assertThat(studentRepository.count()).isEqualTo(STUDENT_COUNT);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(STUDENT_COUNT);
+        // 1,200 student rows and 1,200 enrolment rows; unbatched, this would take at least 2,400 statements
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(STUDENT_COUNT / 10);
+    }
+}
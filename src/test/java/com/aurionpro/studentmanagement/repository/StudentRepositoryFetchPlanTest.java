@@ -0,0 +1,126 @@
+package com.aurionpro.studentmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.mapper.CourseMapperImpl;
+import com.aurionpro.studentmanagement.mapper.DepartmentMapperImpl;
+import com.aurionpro.studentmanagement.mapper.StudentMapper;
+import com.aurionpro.studentmanagement.mapper.StudentMapperImpl;
+
+/**
+ * Verifies that listing and exporting students issues a constant number of queries,
+ * independent of how many students are rendered.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ StudentMapperImpl.class, DepartmentMapperImpl.class, CourseMapperImpl.class })
+class StudentRepositoryFetchPlanTest {
+
+    private static final int STUDENT_COUNT = 60;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentMapper studentMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedStudents() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        for (int d = 0; d < 3; d++) {
+            Department department = new Department();
+            department.setName("DEPARTMENT_" + d);
+            entityManager.persist(department);
+
+            Course first = newCourse("Course A" + d, department);
+            Course second = newCourse("Course B" + d, department);
+            for (int i = 0; i < STUDENT_COUNT / 3; i++) {
+                String id = d + "-" + i;
+                Student student = new Student();
+                student.setStudentId("S" + id);
+                student.setFirstName("First" + id);
+                student.setLastName("Last" + id);
+                student.setEmail("student" + id + "@example.com");
+                student.setDepartment(department);
+                student.getCourses().add(first);
+                student.getCourses().add(second);
+                entityManager.persist(student);
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void pageQueryCountDoesNotGrowWithPageSize() {
+        long smallPageStatements = statementsForPage(5);
+        long largePageStatements = statementsForPage(50);
+
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        // one select for the page (department joined), one count, one batched courses load
+        assertThat(largePageStatements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void streamQueryCountDoesNotGrowWithRowCount() {
+        entityManager.clear();
+        statistics.clear();
+
+        try (Stream<Student> students = studentRepository.streamAll(null, Sort.by("id"))) {
+            List<String> courseNames = students
+                    .flatMap(student -> student.getCourses().stream().map(Course::getName)
+                            .map(name -> student.getDepartment().getName() + name))
+                    .toList();
+            assertThat(courseNames).hasSize(STUDENT_COUNT * 2);
+        }
+
+        // one streaming select (department joined) and one batched courses load
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    private long statementsForPage(int size) {
+        entityManager.clear();
+        statistics.clear();
+
+        Specification<Student> spec = (root, query, criteriaBuilder) -> criteriaBuilder.isTrue(root.get("isActive"));
+        Page<Student> page = studentRepository.findAll(spec, PageRequest.of(0, size, Sort.by("id")));
+        page.map(studentMapper::toDto).getContent();
+
+        assertThat(page.getNumberOfElements()).isEqualTo(size);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Course newCourse(String name, Department department) {
+        Course course = new Course();
+        course.setName(name);
+        course.setDepartment(department);
+        entityManager.persist(course);
+        return course;
+    }
+}
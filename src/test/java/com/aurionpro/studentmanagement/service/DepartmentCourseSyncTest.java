@@ -0,0 +1,135 @@
+package com.aurionpro.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.aurionpro.studentmanagement.dto.request.UpdateCourseNestedDto;
+import com.aurionpro.studentmanagement.dto.request.UpdateDepartmentRequestDto;
+import com.aurionpro.studentmanagement.dto.response.CourseDto;
+import com.aurionpro.studentmanagement.dto.response.DepartmentDetailDto;
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.mapper.CourseMapperImpl;
+import com.aurionpro.studentmanagement.mapper.DepartmentMapperImpl;
+import com.aurionpro.studentmanagement.repository.CourseRepository;
+import com.aurionpro.studentmanagement.service.impl.DepartmentServiceImpl;
+
+/**
+ * Verifies that synchronizing a department's courses issues a number of statements that does not
+ * depend on how many courses the department has, and that the bulk status change of its courses
+ * records their last update.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ DepartmentServiceImpl.class, DepartmentMapperImpl.class, CourseMapperImpl.class })
+class DepartmentCourseSyncTest {
+
+    private static final int KEPT_COURSES = 5;
+    private static final int ADDED_COURSES = 5;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void courseSyncStatementCountDoesNotGrowWithCourseCount() {
+        long smallDepartmentStatements = statementsForSync("SMALL", 10);
+        long largeDepartmentStatements = statementsForSync("LARGE", 300);
+
+        // the new courses may need one more sequence call, depending on where the identifier pool boundary falls
+        assertThat(largeDepartmentStatements).isBetween(smallDepartmentStatements - 1, smallDepartmentStatements + 1);
+        // department and courses selects, course insert and update batches, one bulk delete, the course list for the response
+        assertThat(largeDepartmentStatements).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void togglingDepartmentRecordsTheUpdateOfItsCourses() {
+        Department department = new Department();
+        department.setName("TOGGLED");
+        entityManager.persist(department);
+        for (int i = 0; i < 3; i++) {
+            Course course = new Course();
+            course.setName("TOGGLED Course " + i);
+            course.setDepartment(department);
+            entityManager.persist(course);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Instant beforeToggle = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        departmentService.toggleDepartmentStatus(department.getId());
+
+        assertThat(courseRepository.findByDepartmentId(department.getId()))
+                .hasSize(3)
+                .allSatisfy(course -> {
+                    assertThat(course.isActive()).isFalse();
+                    assertThat(course.getUpdatedAt()).isAfterOrEqualTo(beforeToggle);
+                });
+    }
+
+    private long statementsForSync(String name, int courseCount) {
+        Department department = new Department();
+        department.setName(name);
+        entityManager.persist(department);
+        List<Long> courseIds = new ArrayList<>();
+        for (int i = 0; i < courseCount; i++) {
+            Course course = new Course();
+            course.setName(name + " Course " + i);
+            course.setDepartment(department);
+            courseIds.add(entityManager.persist(course).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Rename the first few courses, drop all others and add a few new ones
+        List<UpdateCourseNestedDto> courses = new ArrayList<>();
+        for (int i = 0; i < KEPT_COURSES; i++) {
+            courses.add(courseDto(courseIds.get(i), name + " Renamed " + i));
+        }
+        for (int i = 0; i < ADDED_COURSES; i++) {
+            courses.add(courseDto(null, name + " New " + i));
+        }
+        UpdateDepartmentRequestDto request = new UpdateDepartmentRequestDto();
+        request.setName(name);
+        request.setCourses(courses);
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        DepartmentDetailDto result = departmentService.updateDepartment(department.getId(), request);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(result.getCourses()).extracting(CourseDto::getName)
+                .hasSize(KEPT_COURSES + ADDED_COURSES)
+                .contains(name + " Renamed 0", name + " New 0")
+                .doesNotContain(name + " Course 0", name + " Course " + (courseCount - 1));
+        assertThat(courseRepository.findByDepartmentId(department.getId())).hasSize(KEPT_COURSES + ADDED_COURSES);
+        return statements;
+    }
+
+    private static UpdateCourseNestedDto courseDto(Long id, String name) {
+        UpdateCourseNestedDto dto = new UpdateCourseNestedDto();
+        dto.setId(id);
+        dto.setName(name);
+        return dto;
+    }
+}
@@ -0,0 +1,125 @@
+package com.aurionpro.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.repository.DepartmentRepository;
+import com.aurionpro.studentmanagement.repository.StudentRepository;
+
+/**
+ * Verifies that the department bundle holds one report per department with matching students,
+ * each listing only the students of its department.
+ * <p>
+ * The reports are generated by worker threads in their own transactions, so the test data is
+ * committed rather than rolled back, and removed after each test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentBundleExportTest {
+
+    private static final int STUDENTS_PER_DEPARTMENT = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seedDepartments() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String name : new String[] { "BUNDLE_ARTS", "BUNDLE_SCIENCE" }) {
+                Department department = departmentRepository.save(newDepartment(name));
+                for (int i = 0; i < STUDENTS_PER_DEPARTMENT; i++) {
+                    Student student = new Student();
+                    student.setStudentId(name + "-" + i);
+                    student.setFirstName("First" + i);
+                    student.setLastName("Last" + i);
+                    student.setEmail(name.toLowerCase() + "." + i + "@example.com");
+                    student.setDepartment(department);
+                    studentRepository.save(student);
+                }
+            }
+            // has no students, so it is left out of the bundle
+            departmentRepository.save(newDepartment("BUNDLE_EMPTY"));
+        });
+    }
+
+    @AfterEach
+    void removeDepartments() {
+        transactionTemplate.executeWithoutResult(status -> {
+            studentRepository.deleteAllInBatch();
+            departmentRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void bundleHoldsOneReportPerDepartmentWithStudents() throws Exception {
+        MvcResult download = mockMvc.perform(get("/api/v1/students/download/bundle")
+                        .param("format", "CSV")
+                        .param("filter", "bundle_"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] zip = mockMvc.perform(asyncDispatch(download))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/zip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, String> entries = unzip(zip);
+
+        assertThat(entries).containsOnlyKeys("BUNDLE_ARTS.csv", "BUNDLE_SCIENCE.csv");
+        assertThat(entries.get("BUNDLE_ARTS.csv").split("\r\n"))
+                .hasSize(STUDENTS_PER_DEPARTMENT + 1)
+                .allMatch(line -> !line.contains("BUNDLE_SCIENCE-"));
+        assertThat(entries.get("BUNDLE_SCIENCE.csv")).contains("BUNDLE_SCIENCE-0,").doesNotContain("BUNDLE_ARTS-");
+    }
+
+    private static Department newDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return department;
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,128 @@
+package com.aurionpro.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.repository.DepartmentRepository;
+import com.aurionpro.studentmanagement.repository.StudentRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifies that a download is tagged with the entity tag of its export, answered with 304 while the
+ * client's copy is current, served again from the export cache, and tagged anew once a student changes.
+ * <p>
+ * The downloads read the students in their own transactions, so the test data is committed rather
+ * than rolled back, and removed after each test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentCachedDownloadTest {
+
+    private static final int STUDENT_COUNT = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seedStudents() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Department department = new Department();
+            department.setName("ETAG_DEPT");
+            departmentRepository.save(department);
+            for (int i = 0; i < STUDENT_COUNT; i++) {
+                Student student = new Student();
+                student.setStudentId("ETAG-" + i);
+                student.setFirstName("First" + i);
+                student.setLastName("Last" + i);
+                student.setEmail("etag." + i + "@example.com");
+                student.setDepartment(department);
+                studentRepository.save(student);
+            }
+        });
+    }
+
+    @AfterEach
+    void removeStudents() {
+        transactionTemplate.executeWithoutResult(status -> {
+            studentRepository.deleteAllInBatch();
+            departmentRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void downloadIsServedFromTheCacheUntilAStudentChanges() throws Exception {
+        MockHttpServletResponse first = download();
+        String etag = first.getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).startsWith("W/\"");
+        assertThat(first.getContentAsString().split("\r\n")).hasSize(STUDENT_COUNT + 1);
+
+        mockMvc.perform(get("/api/v1/students/download/csv")
+                        .param("filter", "etag-")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        double hits = cacheHits();
+        MockHttpServletResponse second = download();
+
+        assertThat(cacheHits()).isEqualTo(hits + 1);
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Student student = studentRepository.findByStudentId("ETAG-0").orElseThrow();
+            student.setFirstName("Renamed");
+        });
+        MockHttpServletResponse afterUpdate = download();
+
+        assertThat(afterUpdate.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(afterUpdate.getContentAsString()).contains("ETAG-0,Renamed,");
+    }
+
+    private MockHttpServletResponse download() throws Exception {
+        MvcResult download = mockMvc.perform(get("/api/v1/students/download/csv").param("filter", "etag-"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(download))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("app.export.cache.requests").tag("result", "hit").counter().count();
+    }
+}
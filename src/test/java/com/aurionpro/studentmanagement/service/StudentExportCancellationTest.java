@@ -0,0 +1,262 @@
+package com.aurionpro.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.exception.ExportAbortedException;
+import com.aurionpro.studentmanagement.repository.DepartmentRepository;
+import com.aurionpro.studentmanagement.repository.StudentRepository;
+
+/**
+ * Verifies that a streamed download whose request times out or fails is cancelled: the statement
+ * the export is waiting for is cancelled, the export stops before the remaining students and its
+ * transaction ends with an {@link ExportAbortedException}, and the download slot is returned.
+ * <p>
+ * The export is held on its first student, with its cursor open, until the event fired by the test
+ * has cancelled its statement. There is a single download slot, so a second download
+ * only starts if the cancelled one returned it. As in {@link StudentBundleExportTest}, the test data
+ * is committed rather than rolled back, and removed after each test.
+ */
+@SpringBootTest(properties = {
+        "app.export.max-concurrent-downloads=1",
+        "app.export.download-wait-ms=100",
+        "app.export.cache.dir=${java.io.tmpdir}/student-management/cancellation-test-cache"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StudentExportCancellationTest {
+
+    private static final int STUDENT_COUNT = 250;
+
+    private static final long WAIT_SECONDS = 10;
+
+    /**
+     * Records how each streamed download ended: the exception it failed with, or its result.
+     */
+    @TestConfiguration
+    static class DownloadOutcomeConfig implements WebMvcConfigurer {
+
+        static final BlockingQueue<Object> OUTCOMES = new LinkedBlockingQueue<>();
+
+        @Override
+        public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+            configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+                @Override
+                public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+                    OUTCOMES.add(concurrentResult == null ? "completed" : concurrentResult);
+                }
+            });
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final CountDownLatch exportHeld = new CountDownLatch(1);
+    private final CountDownLatch statementCancelled = new CountDownLatch(1);
+    private final AtomicInteger studentsRead = new AtomicInteger();
+    private final AtomicInteger transactionStatus = new AtomicInteger(-1);
+
+    @BeforeEach
+    void seedStudents() {
+        DownloadOutcomeConfig.OUTCOMES.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            Department department = new Department();
+            department.setName("CANCEL_DEPT");
+            departmentRepository.save(department);
+            for (int i = 0; i < STUDENT_COUNT; i++) {
+                Student student = new Student();
+                student.setStudentId("CANCEL-" + i);
+                student.setFirstName("First" + i);
+                student.setLastName("Last" + i);
+                student.setEmail("cancel." + i + "@example.com");
+                student.setDepartment(department);
+                studentRepository.save(student);
+            }
+        });
+        holdFirstExportUntilItsStatementIsCancelled();
+    }
+
+    @AfterEach
+    void removeStudents() {
+        transactionTemplate.executeWithoutResult(status -> {
+            studentRepository.deleteAllInBatch();
+            departmentRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void timeoutCancelsTheExportAndReturnsItsSlot() throws Exception {
+        MvcResult download = startDownload();
+
+        fireAsyncEvent(download, (listener, event) -> listener.onTimeout(event));
+
+        assertCancelled();
+        assertSlotReturned();
+    }
+
+    @Test
+    void errorCancelsTheExportAndReturnsItsSlot() throws Exception {
+        MvcResult download = startDownload();
+
+        fireAsyncEvent(download, (listener, event) -> listener.onError(
+                new AsyncEvent(event.getAsyncContext(), new IOException("Broken pipe"))));
+
+        assertCancelled();
+        assertSlotReturned();
+    }
+
+    /**
+     * Holds the first export on its first student, inside its transaction, until the statement
+     * canceller of that transaction has run. The hold outlasts interrupts, as the async timeout
+     * interrupts the export thread before it cancels the export. Later exports run unhindered.
+     * <p>
+     * The spy of a repository proxy delegates to the proxy through its default answer, which
+     * stands in for {@code callRealMethod()}.
+     */
+    @SuppressWarnings("unchecked")
+    private void holdFirstExportUntilItsStatementIsCancelled() {
+        Answer<?> repository = mockingDetails(studentRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            Runnable canceller = (Runnable) repository.answer(invocation);
+            return (Runnable) () -> {
+                try {
+                    canceller.run();
+                } finally {
+                    statementCancelled.countDown();
+                }
+            };
+        }).when(studentRepository).statementCanceller();
+        doAnswer(invocation -> {
+            Stream<Student> students = (Stream<Student>) repository.answer(invocation);
+            if (!first.getAndSet(false)) {
+                return students;
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    transactionStatus.set(status);
+                }
+            });
+            return students.peek(student -> {
+                if (studentsRead.incrementAndGet() == 1) {
+                    exportHeld.countDown();
+                    awaitUninterruptibly(statementCancelled);
+                }
+            });
+        }).when(studentRepository).streamAll(ArgumentMatchers.<Specification<Student>>any(), any(Sort.class));
+    }
+
+    private MvcResult startDownload() throws Exception {
+        MvcResult download = mockMvc.perform(get("/api/v1/students/download/csv").param("filter", "cancel-"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(exportHeld.await(WAIT_SECONDS, TimeUnit.SECONDS)).as("export reached its first student").isTrue();
+        return download;
+    }
+
+    private void assertCancelled() throws InterruptedException {
+        assertThat(statementCancelled.await(WAIT_SECONDS, TimeUnit.SECONDS)).as("statement cancelled").isTrue();
+        assertThat(DownloadOutcomeConfig.OUTCOMES.poll(WAIT_SECONDS, TimeUnit.SECONDS))
+                .isInstanceOf(ExportAbortedException.class);
+        assertThat(transactionStatus).hasValue(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(studentsRead).hasValue(1);
+    }
+
+    private void assertSlotReturned() throws Exception {
+        MvcResult download = mockMvc.perform(get("/api/v1/students/download/csv").param("filter", "cancel-"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(download))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(csv.split("\r\n")).hasSize(STUDENT_COUNT + 1);
+    }
+
+    @FunctionalInterface
+    private interface AsyncEventFirer {
+        void fire(AsyncListener listener, AsyncEvent event) throws IOException;
+    }
+
+    private static void fireAsyncEvent(MvcResult download, AsyncEventFirer firer) throws IOException {
+        MockAsyncContext asyncContext = (MockAsyncContext) download.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            firer.fire(listener, new AsyncEvent(asyncContext));
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.aurionpro.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.aurionpro.studentmanagement.entity.Course;
+import com.aurionpro.studentmanagement.entity.Department;
+import com.aurionpro.studentmanagement.entity.Student;
+import com.aurionpro.studentmanagement.export.ReportTemplateCache;
+import com.aurionpro.studentmanagement.service.impl.StudentExportServiceImpl;
+
+/**
+ * Verifies that PDF reports are written both when filled in memory and when their pages are
+ * swapped out to disk, and that the swap file does not outlive the export.
+ */
+class StudentPdfExportTest {
+
+    private static final int STUDENT_COUNT = 500;
+    private static final int VIRTUALIZATION_THRESHOLD = 100;
+    private static final int VIRTUALIZER_MAX_PAGES = 2;
+
+    private static ReportTemplateCache reportTemplateCache;
+
+    @TempDir
+    Path swapDirectory;
+
+    @BeforeAll
+    static void compileTemplate() throws Exception {
+        reportTemplateCache = new ReportTemplateCache();
+        reportTemplateCache.getReport(ReportTemplateCache.STUDENT_LIST_TEMPLATE);
+    }
+
+    @Test
+    void smallReportIsFilledInMemory() throws Exception {
+        byte[] pdf = export(VIRTUALIZATION_THRESHOLD - 1);
+
+        assertThat(new String(pdf, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        assertThat(swapDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void largeReportIsSwappedToDiskAndTheSwapFileRemoved() throws Exception {
+        byte[] inMemory = export(VIRTUALIZATION_THRESHOLD - 1);
+        byte[] virtualized = export(STUDENT_COUNT);
+
+        assertThat(new String(virtualized, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("%PDF-");
+        // the same pages are written either way, apart from creation timestamps and object identifiers
+        assertThat(virtualized.length).isBetween(inMemory.length * 9 / 10, inMemory.length * 11 / 10);
+        try (Stream<Path> files = Files.list(swapDirectory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    /**
+     * Exports {@value #STUDENT_COUNT} students, telling the exporter to expect the given number of rows.
+     */
+    private byte[] export(long expectedRows) throws Exception {
+        StudentExportService exportService = new StudentExportServiceImpl(reportTemplateCache,
+                VIRTUALIZATION_THRESHOLD, VIRTUALIZER_MAX_PAGES, swapDirectory.toString());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportService.exportToPdf(students().stream(), expectedRows, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static List<Student> students() {
+        Department department = new Department();
+        department.setName("COMPUTER_SCIENCE");
+        Course course = new Course();
+        course.setName("Algorithms");
+        course.setDepartment(department);
+
+        List<Student> students = new ArrayList<>(STUDENT_COUNT);
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            Student student = new Student();
+            student.setStudentId("S" + i);
+            student.setFirstName("First" + i);
+            student.setLastName("Last" + i);
+            student.setEmail("student" + i + "@example.com");
+            student.setDepartment(department);
+            student.getCourses().add(course);
+            student.setActive(i % 2 == 0);
+            students.add(student);
+        }
+        return students;
+    }
+}